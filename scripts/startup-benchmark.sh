@@ -0,0 +1,99 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time from JVM launch to the first 200 on GET /currencies.
+#
+# Compares the regular build against the fast-startup build (Spring AOT + class data sharing archive).
+# Both run with the prod,fast profiles from an extracted classpath, so the numbers isolate AOT and CDS.
+# Requires the database configured in application.properties, with the schema already created
+# (the fast profile does not run ddl-auto).
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+#
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8090}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+WORK_DIR="$ROOT_DIR/target/startup-benchmark"
+URL="http://localhost:$PORT/currencies"
+UUID="123e4567-e89b-12d3-a456-426614174000"
+
+now_ms() {
+  date +%s%3N
+}
+
+# Launches the given command, polls /currencies until it answers 200 and prints the elapsed milliseconds.
+time_to_first_200() {
+  local start pid status
+  start="$(now_ms)"
+  "$@" --server.port="$PORT" >"$WORK_DIR/app.log" 2>&1 &
+  pid=$!
+  until status="$(curl -s -o /dev/null -w '%{http_code}' \
+      -H "x-correlation-id: $UUID" -H "x-request-id: $UUID" -H "x-transaction-id: $UUID" \
+      "$URL")" && [ "$status" = "200" ]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Application exited before answering, see $WORK_DIR/app.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  echo $(( $(now_ms) - start ))
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+report() {
+  local label="$1"
+  shift
+  local total=0 elapsed
+  for ((i = 1; i <= RUNS; i++)); do
+    elapsed="$(time_to_first_200 "$@")"
+    echo "  $label run $i: ${elapsed} ms"
+    total=$((total + elapsed))
+  done
+  echo "$label average: $((total / RUNS)) ms"
+}
+
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+cd "$ROOT_DIR"
+
+echo "Building regular jar..."
+./mvnw -q -DskipTests package
+cp target/backend-quality-*.jar "$WORK_DIR/regular.jar"
+
+echo "Building fast-startup jar (AOT)..."
+./mvnw -q -DskipTests -Pfast-startup package
+cp target/backend-quality-*.jar "$WORK_DIR/fast.jar"
+
+# CDS only archives classes loaded from jars, so application classes are repackaged into a jar
+# and the classpath is listed explicitly (it must be identical for the training and measured runs).
+# Both variants are launched the same way, so the only difference between them is AOT and CDS.
+# Extracts the given jar into the given directory and prints its classpath.
+explode() {
+  local jar="$1" dir="$2" classpath lib
+  mkdir -p "$dir"
+  (cd "$dir" && jar xf "$jar")
+  jar cf "$dir/application.jar" -C "$dir/BOOT-INF/classes" .
+  classpath="$dir/application.jar"
+  for lib in $(ls "$dir/BOOT-INF/lib"/*.jar | sort); do
+    classpath="$classpath:$lib"
+  done
+  echo "$classpath"
+}
+
+REGULAR_CLASSPATH="$(explode "$WORK_DIR/regular.jar" "$WORK_DIR/regular")"
+FAST_CLASSPATH="$(explode "$WORK_DIR/fast.jar" "$WORK_DIR/fast")"
+MAIN_CLASS="com.quality.BackendQualityApplication"
+# Same profiles for both variants: the AOT build bakes prod,fast in, so the regular run must use them too
+PROFILE_OPTS=(-Dspring.profiles.active=prod,fast)
+FAST_OPTS=(-Dspring.aot.enabled=true "${PROFILE_OPTS[@]}")
+
+echo "Training run (creates the CDS archive)..."
+time_to_first_200 java -XX:ArchiveClassesAtExit="$WORK_DIR/application.jsa" \
+  "${FAST_OPTS[@]}" -cp "$FAST_CLASSPATH" "$MAIN_CLASS" >/dev/null
+
+echo "Measuring ($RUNS runs each)..."
+report "regular" java "${PROFILE_OPTS[@]}" -cp "$REGULAR_CLASSPATH" "$MAIN_CLASS"
+report "fast-startup" java -XX:SharedArchiveFile="$WORK_DIR/application.jsa" -Xshare:auto \
+  "${FAST_OPTS[@]}" -cp "$FAST_CLASSPATH" "$MAIN_CLASS"
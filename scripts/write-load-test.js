@@ -0,0 +1,97 @@
+// Write throughput load test for POST /clients and POST /accounts (k6).
+//
+// Each iteration creates a client and then an account for it, so both insert paths are measured
+// under the same concurrency. Setup creates a type document for the run whose rules accept the
+// generated document numbers (15 digits), since seeded types such as DNI only accept 8 digits. Compare runs against the default and the prod profile to see the
+// effect of the connection pool and statement cache tuning (see scripts/write-load-test.sh).
+//
+// Usage: k6 run -e BASE_URL=http://localhost:8080 -e VUS=32 -e DURATION=60s scripts/write-load-test.js
+//
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { uuidv4 } from 'https://jslib.k6.io/k6-utils/1.4.0/index.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DOC_LENGTH = 15;
+const TYPE_ACCOUNT_ID = Number(__ENV.TYPE_ACCOUNT_ID || 1);
+const CURRENCY_ID = Number(__ENV.CURRENCY_ID || 1);
+
+const createClient = new Trend('create_client_duration', true);
+const createAccount = new Trend('create_account_duration', true);
+
+export const options = {
+  scenarios: {
+    writes: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 32),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  thresholds: {
+    checks: ['rate>0.99'],
+  },
+};
+
+function headers() {
+  // Every request is a new operation, so it gets its own request and transaction id
+  return {
+    'Content-Type': 'application/json',
+    'x-correlation-id': uuidv4(),
+    'x-request-id': uuidv4(),
+    'x-transaction-id': uuidv4(),
+  };
+}
+
+function idFromLocation(response) {
+  const location = response.headers['Location'];
+  return Number(location.substring(location.lastIndexOf('/') + 1));
+}
+
+export function setup() {
+  const now = Date.now();
+  const typeDocument = http.post(`${BASE_URL}/type-documents`, JSON.stringify({
+    code: `LT${now}`,
+    description: 'Load test document',
+    validationPattern: `^[0-9]{${DOC_LENGTH}}$`,
+    minLength: DOC_LENGTH,
+    maxLength: DOC_LENGTH,
+    active: true,
+  }), { headers: headers() });
+  if (typeDocument.status !== 201) {
+    throw new Error(`Could not create the load test type document: ${typeDocument.status} ${typeDocument.body}`);
+  }
+  return {
+    // Distinguishes this run's documents and emails from rows left by previous runs
+    run: String(now % 100000).padStart(5, '0'),
+    idTypeDocument: idFromLocation(typeDocument),
+  };
+}
+
+export default function (data) {
+  // Unique per run, VU and iteration (DOC_LENGTH digits, within the 20 characters allowed)
+  const suffix = `${data.run}${String(__VU).padStart(3, '0')}${String(__ITER).padStart(7, '0')}`;
+
+  const client = http.post(`${BASE_URL}/clients`, JSON.stringify({
+    firstName: 'Load',
+    lastName: 'Test',
+    idTypeDocument: data.idTypeDocument,
+    documentNumber: suffix,
+    email: `load.${suffix}@example.com`,
+    phone: '+51 999 999 999',
+  }), { headers: headers() });
+  createClient.add(client.timings.duration);
+  if (!check(client, { 'client created': (r) => r.status === 201 })) {
+    return;
+  }
+
+  // POST /clients answers 201 with the Location of the new client
+  const account = http.post(`${BASE_URL}/accounts`, JSON.stringify({
+    idClient: idFromLocation(client),
+    idTypeAccount: TYPE_ACCOUNT_ID,
+    idCurrency: CURRENCY_ID,
+    balance: 100.00,
+  }), { headers: headers() });
+  createAccount.add(account.timings.duration);
+  check(account, { 'account created': (r) => r.status === 201 });
+}
@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+#
+# Write throughput comparison: runs scripts/write-load-test.js (k6) against the application started
+# with the default settings and with the prod profile (pool sizing, statement cache, batching).
+#
+# Requires k6, the database configured in application.properties with the schema migrated, and
+# catalog rows for TYPE_ACCOUNT_ID and CURRENCY_ID (default 1). Each k6 run creates its own type document.
+#
+# Usage: scripts/write-load-test.sh [vus] [duration]
+#
+set -euo pipefail
+
+VUS="${1:-32}"
+DURATION="${2:-60s}"
+PORT="${PORT:-8091}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+WORK_DIR="$ROOT_DIR/target/write-load-test"
+UUID="123e4567-e89b-12d3-a456-426614174000"
+
+# Starts the jar with the given extra arguments and waits until GET /currencies answers 200.
+start_app() {
+  java -jar "$WORK_DIR/app.jar" --server.port="$PORT" "$@" >"$WORK_DIR/app.log" 2>&1 &
+  APP_PID=$!
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' \
+      -H "x-correlation-id: $UUID" -H "x-request-id: $UUID" -H "x-transaction-id: $UUID" \
+      "http://localhost:$PORT/currencies")" = "200" ]; do
+    if ! kill -0 "$APP_PID" 2>/dev/null; then
+      echo "Application exited before answering, see $WORK_DIR/app.log" >&2
+      exit 1
+    fi
+    sleep 0.5
+  done
+}
+
+stop_app() {
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+}
+
+run() {
+  local label="$1"
+  shift
+  echo "== $label"
+  start_app "$@"
+  k6 run --quiet -e BASE_URL="http://localhost:$PORT" -e VUS="$VUS" -e DURATION="$DURATION" \
+    --summary-export="$WORK_DIR/$label.json" "$ROOT_DIR/scripts/write-load-test.js"
+  stop_app
+}
+
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+cd "$ROOT_DIR"
+
+echo "Building jar..."
+./mvnw -q -DskipTests package
+cp target/backend-quality-*.jar "$WORK_DIR/app.jar"
+
+run default
+run prod --spring.profiles.active=prod
+
+echo "Summaries: $WORK_DIR/default.json, $WORK_DIR/prod.json (http_reqs rate = requests per second)"
@@ -0,0 +1,25 @@
+package com.quality.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * HTTP caching configuration for catalog endpoints (type documents, currencies, type accounts).
+ * With the default max-age of zero clients always revalidate with If-None-Match,
+ * which is answered with 304 from the in-memory catalog version without touching the database.
+ */
+@Configuration
+public class CatalogCacheConfig {
+
+    @Bean("catalogCacheControl")
+    public CacheControl catalogCacheControl(@Value("${catalog.cache.max-age:0s}") Duration maxAge) {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+}
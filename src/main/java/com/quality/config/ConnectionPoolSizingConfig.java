@@ -0,0 +1,60 @@
+package com.quality.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+/**
+ * Production sizing of the Hikari pools (primary and, with routing enabled, replica).
+ * Uses the HikariCP guideline connections = cores * 2 + spindles, where cores are the database
+ * server cores (datasource.pool.cores, 0 = the cores available to this JVM), and keeps the pool
+ * at a fixed size so no connection is opened under load.
+ * An explicit maximum-pool-size always wins, checked under the prefix the pool binds:
+ * datasource.replica.hikari for the replica pool, spring.datasource.hikari for the others.
+ */
+@Configuration
+@Profile("prod")
+public class ConnectionPoolSizingConfig {
+
+    static final String EXPLICIT_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    static final String EXPLICIT_REPLICA_POOL_SIZE = "datasource.replica.hikari.maximum-pool-size";
+    static final String REPLICA_BEAN_NAME = "replicaDataSource";
+
+    /**
+     * Static so the post processor does not force early initialization of this configuration.
+     */
+    @Bean
+    public static BeanPostProcessor connectionPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            @NonNull
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && !environment.containsProperty(explicitPoolSizeProperty(beanName))) {
+                    int poolSize = poolSize(
+                            environment.getProperty("datasource.pool.cores", Integer.class, 0),
+                            environment.getProperty("datasource.pool.spindles", Integer.class, 1));
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Property that sets the size of the given pool explicitly (see DataSourceRoutingConfig for the prefixes).
+     */
+    static String explicitPoolSizeProperty(String beanName) {
+        return REPLICA_BEAN_NAME.equals(beanName) ? EXPLICIT_REPLICA_POOL_SIZE : EXPLICIT_POOL_SIZE;
+    }
+
+    static int poolSize(int cores, int spindles) {
+        int effectiveCores = cores > 0 ? cores : Runtime.getRuntime().availableProcessors();
+        return effectiveCores * 2 + Math.max(spindles, 0);
+    }
+}
@@ -45,6 +45,25 @@ public class ErrorCodeDescriptions {
               - `RBV-003`: Longitud del campo por debajo del mínimo requerido
               - `RBV-004`: Longitud del campo excede el máximo permitido
               - `RBV-005`: Valor duplicado detectado (violación de restricción única)
+              - `RBV-006`: Formato o valor de campo inválido
+            """;
+
+    // ========== Idempotency Error Documentation (TYP-004) ==========
+
+    public static final String IDEMPOTENCY_ERROR_CODES = """
+            
+            **Códigos de Error Posibles:**
+            
+            **TYP-004** - idempotency_error (HTTP 409)
+              - `IDM-001`: Solicitud con el mismo x-transaction-id aún en proceso
+            """;
+
+    public static final String IDEMPOTENCY_MISMATCH_ERROR_CODES = """
+            
+            **Códigos de Error Posibles:**
+            
+            **TYP-004** - idempotency_error (HTTP 422)
+              - `IDM-002`: x-transaction-id ya usado con un cuerpo de solicitud distinto
             """;
 
     // ========== Combined Error Documentation for Endpoints ==========
@@ -117,12 +136,33 @@ public class ErrorCodeDescriptions {
     public static final String CLIENT_GET_BY_ID_400 = HEADER_ONLY;
     public static final String CLIENT_GET_BY_ID_404 = CLIENT_NOT_FOUND_BY_ID;
 
+    // POST /clients/lookup
+    public static final String CLIENT_LOOKUP_400 = HEADER_AND_VALIDATION;
+
     // POST /clients
     public static final String CLIENT_POST_400 = HEADER_AND_VALIDATION;
     public static final String CLIENT_POST_404 = TYPE_DOCUMENT_NOT_FOUND_IN_CLIENT;
     public static final String CLIENT_POST_409 = 
-            "Conflicto - Email o número de documento duplicado. Ya existe un cliente con ese email o número de documento" + 
-            VALIDATION_ERROR_CODES;
+            "Conflicto - Email o número de documento duplicado, o solicitud con el mismo x-transaction-id en proceso" + 
+            VALIDATION_ERROR_CODES + IDEMPOTENCY_ERROR_CODES;
+
+    public static final String CLIENT_POST_422 =
+            "x-transaction-id ya usado con un cuerpo de solicitud distinto" +
+            IDEMPOTENCY_MISMATCH_ERROR_CODES;
+
+    // GET /accounts?ids=..., POST /accounts/lookup
+    public static final String ACCOUNT_LOOKUP_400 = HEADER_AND_VALIDATION;
+
+    // GET /accounts/status-events
+    public static final String ACCOUNT_STATUS_EVENTS_400 = HEADER_ONLY;
+
+    // POST /accounts
+    public static final String ACCOUNT_POST_409 =
+            "Conflicto - Solicitud con el mismo x-transaction-id en proceso" +
+            IDEMPOTENCY_ERROR_CODES;
+    public static final String ACCOUNT_POST_422 =
+            "x-transaction-id ya usado con un cuerpo de solicitud distinto" +
+            IDEMPOTENCY_MISMATCH_ERROR_CODES;
 
     // PUT /clients/{id}
     public static final String CLIENT_PUT_400 = HEADER_AND_VALIDATION;
@@ -143,6 +143,28 @@ public class ErrorCodeDocumentation {
                     ErrorCodeConstants.SUBTYPE_DUPLICATE_VALUE,
                     "Valor duplicado detectado (violación de restricción única)",
                     "Client with email 'juan.perez@example.com' already exists"
+            ),
+            new ErrorSubtypeInfo(
+                    ErrorCodeConstants.SUBTYPE_CODE_INVALID_FIELD_FORMAT,
+                    ErrorCodeConstants.SUBTYPE_INVALID_FIELD_FORMAT,
+                    "Formato o valor de campo inválido",
+                    "Field 'cursor' has an invalid format"
+            )
+    );
+
+    // Idempotency Error Subtypes (TYP-004)
+    private static final List<ErrorSubtypeInfo> IDEMPOTENCY_ERROR_SUBTYPES = Arrays.asList(
+            new ErrorSubtypeInfo(
+                    ErrorCodeConstants.SUBTYPE_CODE_REQUEST_IN_PROGRESS,
+                    ErrorCodeConstants.SUBTYPE_REQUEST_IN_PROGRESS,
+                    "Solicitud con el mismo x-transaction-id aún en proceso",
+                    "A request with x-transaction-id '123e4567-e89b-12d3-a456-426614174000' is already in progress"
+            ),
+            new ErrorSubtypeInfo(
+                    ErrorCodeConstants.SUBTYPE_CODE_REQUEST_MISMATCH,
+                    ErrorCodeConstants.SUBTYPE_REQUEST_MISMATCH,
+                    "x-transaction-id ya usado con un cuerpo de solicitud distinto",
+                    "x-transaction-id '123e4567-e89b-12d3-a456-426614174000' was already used with a different request body"
             )
     );
 
@@ -179,6 +201,16 @@ public class ErrorCodeDocumentation {
                 ErrorCodeConstants.TYPE_CODE_VALIDATION,
                 VALIDATION_ERROR_SUBTYPES
         ));
+
+        // TYP-004: Idempotency Errors
+        ERROR_CATALOG.put(ErrorCodeConstants.TYPE_CODE_IDEMPOTENCY, new ErrorCodeInfo(
+                ErrorCodeConstants.TYPE_CODE_IDEMPOTENCY,
+                ErrorCodeConstants.TYPE_IDEMPOTENCY,
+                "Errores de reintentos de solicitudes con el mismo x-transaction-id",
+                409, // 422 when the body differs from the original request
+                ErrorCodeConstants.TYPE_CODE_IDEMPOTENCY,
+                IDEMPOTENCY_ERROR_SUBTYPES
+        ));
     }
 
     /**
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /**
@@ -14,8 +15,10 @@ import org.springframework.stereotype.Component;
  * Adds structured error code information to API responses.
  * Follows Single Responsibility Principle - only enhances OpenAPI documentation.
  * Implements Open/Closed Principle - extends functionality without modifying existing code.
+ * Not loaded in the prod profile (see OpenApiConfig).
  */
 @Component
+@Profile("!prod")
 public class ErrorCodeOpenApiCustomizer implements OpenApiCustomizer {
 
     @Override
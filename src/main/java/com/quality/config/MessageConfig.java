@@ -1,45 +1,113 @@
 package com.quality.config;
 
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.LocaleContextMessageInterpolator;
+import org.springframework.validation.beanvalidation.MessageSourceResourceBundleLocator;
 import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 @Configuration
 public class MessageConfig {
 
-    @Bean
+    /**
+     * Locale resolution mode: "header" resolves from Accept-Language and never touches the HTTP session,
+     * "session" keeps the previous SessionLocaleResolver behavior.
+     */
+    public static final String LOCALE_RESOLVER_HEADER = "header";
+    public static final String LOCALE_RESOLVER_SESSION = "session";
+
+    private static final String MESSAGES_BASENAME = "messages";
+
+    /**
+     * Reloadable message source used outside production (dev and tests).
+     */
+    @Bean("messageSource")
+    @Profile("!prod")
     @NonNull
-    public MessageSource messageSource() {
+    public MessageSource reloadableMessageSource() {
         ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-        messageSource.setBasename("classpath:messages");
+        messageSource.setBasename("classpath:" + MESSAGES_BASENAME);
         messageSource.setDefaultEncoding("UTF-8");
         return messageSource;
     }
 
+    /**
+     * Production message source: bundles are loaded and parsed once at startup.
+     */
+    @Bean("messageSource")
+    @Profile("prod")
+    @NonNull
+    public MessageSource precompiledMessageSource() {
+        return new PrecompiledMessageSource(MESSAGES_BASENAME);
+    }
+
+    /**
+     * Locale resolver for the stateless API.
+     * In header mode the Accept-Language value is matched against the supported locales and
+     * anything else falls back to the root locale, which keeps every per-locale message cache bounded.
+     */
     @Bean
     @NonNull
-    public LocaleResolver localeResolver() {
-        SessionLocaleResolver slr = new SessionLocaleResolver();
-        slr.setDefaultLocale(Locale.ROOT);
-        return slr;
+    public LocaleResolver localeResolver(
+            @Value("${locale.resolver:" + LOCALE_RESOLVER_HEADER + "}") String mode,
+            @Value("${locale.supported:es,en}") String supportedLocales
+    ) {
+        if (LOCALE_RESOLVER_SESSION.equalsIgnoreCase(mode)) {
+            SessionLocaleResolver slr = new SessionLocaleResolver();
+            slr.setDefaultLocale(Locale.ROOT);
+            return slr;
+        }
+
+        AcceptHeaderLocaleResolver resolver = new AcceptHeaderLocaleResolver();
+        resolver.setDefaultLocale(Locale.ROOT);
+        resolver.setSupportedLocales(parseLocales(supportedLocales));
+        return resolver;
     }
 
     /**
      * Validator factory bean for resolving validation messages from MessageSource.
      * Enables internationalized validation error messages.
+     * Hibernate Validator already caches the bundle lookups and the parsed templates; the final message
+     * is not cached, since it depends on the constraint attributes ({min}, {max}) and not only on the template.
      */
     @Bean
     @NonNull
-    public LocalValidatorFactoryBean getValidator() {
+    public LocalValidatorFactoryBean getValidator(MessageSource messageSource) {
         LocalValidatorFactoryBean bean = new LocalValidatorFactoryBean();
-        bean.setValidationMessageSource(messageSource());
+        bean.setMessageInterpolator(new LocaleContextMessageInterpolator(
+                new ResourceBundleMessageInterpolator(new MessageSourceResourceBundleLocator(messageSource))
+        ));
         return bean;
     }
+
+    /**
+     * Parses a comma-separated list of locale tags (e.g. "es,en").
+     */
+    @NonNull
+    static List<Locale> parseLocales(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .map(StringUtils::parseLocale)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
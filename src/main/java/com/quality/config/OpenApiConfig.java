@@ -12,6 +12,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -20,8 +21,10 @@ import java.util.Map;
  * OpenAPI/Swagger configuration.
  * Configures API documentation with reusable components (schemas, examples, responses).
  * Follows Single Responsibility Principle - only configures OpenAPI documentation.
+ * Runtime generation is disabled in the prod profile, which serves the document generated at build time.
  */
 @Configuration
+@Profile("!prod")
 public class OpenApiConfig {
 
     @Bean
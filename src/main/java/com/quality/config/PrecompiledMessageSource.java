@@ -0,0 +1,136 @@
+package com.quality.config;
+
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Non-reloading MessageSource for production.
+ * Every bundle matching the basename is read once at startup and each message is parsed
+ * into a MessageFormat up front, so lookups are plain map reads with no file checks.
+ * Lookup falls back from language_country to language to the base bundle; unlike the
+ * reloadable variant it never falls back to the JVM default locale.
+ * MessageFormat is not thread-safe, but AbstractMessageSource synchronizes on the instance while formatting.
+ */
+public class PrecompiledMessageSource extends AbstractMessageSource {
+
+    private static final String EXTENSION = ".properties";
+
+    private final Map<Locale, Map<String, String>> messages;
+    private final Map<Locale, Map<String, MessageFormat>> formats;
+
+    /**
+     * Loads every bundle for the given basename.
+     * @param basename the bundle basename, e.g. "messages" (must not be null)
+     */
+    public PrecompiledMessageSource(@NonNull String basename) {
+        Objects.requireNonNull(basename, "Basename cannot be null");
+        Map<Locale, Map<String, String>> loadedMessages = loadBundles(basename);
+        Map<Locale, Map<String, MessageFormat>> loadedFormats = new HashMap<>();
+        loadedMessages.forEach((locale, bundle) -> {
+            Map<String, MessageFormat> bundleFormats = new HashMap<>();
+            bundle.forEach((code, message) -> bundleFormats.put(code, compile(code, message, locale)));
+            loadedFormats.put(locale, Map.copyOf(bundleFormats));
+        });
+        this.messages = Map.copyOf(loadedMessages);
+        this.formats = Map.copyOf(loadedFormats);
+    }
+
+    @Override
+    @Nullable
+    protected String resolveCodeWithoutArguments(@NonNull String code, @NonNull Locale locale) {
+        return lookup(messages, code, locale);
+    }
+
+    @Override
+    @Nullable
+    protected MessageFormat resolveCode(@NonNull String code, @NonNull Locale locale) {
+        return lookup(formats, code, locale);
+    }
+
+    @Nullable
+    private static <V> V lookup(Map<Locale, Map<String, V>> source, String code, Locale locale) {
+        V value = find(source, code, locale);
+        if (value == null && !locale.getCountry().isEmpty()) {
+            value = find(source, code, new Locale(locale.getLanguage()));
+        }
+        if (value == null && !locale.equals(Locale.ROOT)) {
+            value = find(source, code, Locale.ROOT);
+        }
+        return value;
+    }
+
+    @Nullable
+    private static <V> V find(Map<Locale, Map<String, V>> source, String code, Locale locale) {
+        Map<String, V> bundle = source.get(locale);
+        return bundle != null ? bundle.get(code) : null;
+    }
+
+    private static Map<Locale, Map<String, String>> loadBundles(String basename) {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Map<Locale, Map<String, String>> bundles = new HashMap<>();
+        try {
+            for (Resource resource : resolver.getResources("classpath*:" + basename + "*" + EXTENSION)) {
+                Locale locale = localeOf(basename, resource.getFilename());
+                if (locale == null) {
+                    continue;
+                }
+                Map<String, String> bundle = bundles.computeIfAbsent(locale, key -> new HashMap<>());
+                Properties properties = new Properties();
+                try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                // First bundle on the classpath wins, matching ResourceBundle semantics
+                properties.stringPropertyNames().forEach(code -> bundle.putIfAbsent(code, properties.getProperty(code)));
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not load message bundles for basename '" + basename + "'", ex);
+        }
+
+        Map<Locale, Map<String, String>> immutable = new HashMap<>();
+        bundles.forEach((locale, bundle) -> immutable.put(locale, Map.copyOf(bundle)));
+        return immutable;
+    }
+
+    /**
+     * Extracts the locale from a bundle file name, e.g. "messages_es.properties" -> es.
+     * Returns null for files that only share the basename prefix (e.g. "messages-extra.properties").
+     */
+    @Nullable
+    private static Locale localeOf(String basename, @Nullable String filename) {
+        if (filename == null || !filename.endsWith(EXTENSION)) {
+            return null;
+        }
+        String suffix = filename.substring(basename.length(), filename.length() - EXTENSION.length());
+        if (suffix.isEmpty()) {
+            return Locale.ROOT;
+        }
+        if (suffix.charAt(0) != '_') {
+            return null;
+        }
+        return StringUtils.parseLocale(suffix.substring(1));
+    }
+
+    private static MessageFormat compile(String code, String message, Locale locale) {
+        try {
+            return new MessageFormat(message, locale);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid message format for code '" + code + "' (" + locale + ")", ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.quality.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Routes connections of read-only transactions to the replica and everything else to the primary.
+ * The routing key is read when the physical connection is obtained, so this data source must be
+ * wrapped in a LazyConnectionDataSourceProxy: JPA asks for the connection before the transaction
+ * is marked read-only, and the proxy defers it until the first statement.
+ * When the replica is reported unavailable (down or lagging), read-only work falls back to the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final BooleanSupplier replicaAvailable;
+
+    /**
+     * @param primary the read/write data source (must not be null)
+     * @param replica the read-only data source (must not be null)
+     * @param replicaAvailable whether the replica may currently serve reads (must not be null)
+     */
+    public ReadWriteRoutingDataSource(
+            @NonNull DataSource primary,
+            @NonNull DataSource replica,
+            @NonNull BooleanSupplier replicaAvailable
+    ) {
+        Objects.requireNonNull(primary, "Primary data source cannot be null");
+        Objects.requireNonNull(replica, "Replica data source cannot be null");
+        this.replicaAvailable = Objects.requireNonNull(replicaAvailable, "Replica availability cannot be null");
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        // No silent fallback for unknown keys: only the two keys above are ever returned
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    @NonNull
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && replicaAvailable.getAsBoolean() ? REPLICA : PRIMARY;
+    }
+}
@@ -0,0 +1,75 @@
+package com.quality.config;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Tracks the replication lag of the read replica and decides whether it may serve reads.
+ * The replica is taken out of rotation while it is unreachable or lags behind the primary by
+ * more than the configured maximum, and put back on the next check within the limit.
+ * Starts out of rotation until the first successful check.
+ * Follows Single Responsibility Principle (SRP) - only monitors replica health.
+ */
+public class ReplicaLagMonitor {
+
+    /**
+     * Replay lag in seconds; zero on a primary or when every received WAL record is replayed
+     * (an idle primary would otherwise look like growing lag).
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration maxLag;
+
+    private volatile boolean available;
+    private volatile Duration lastLag;
+
+    /**
+     * @param replica the replica data source, queried directly (must not be null)
+     * @param maxLag the maximum lag at which the replica still serves reads (must not be null)
+     * @param checkTimeout query timeout of a single check (must not be null)
+     */
+    public ReplicaLagMonitor(@NonNull DataSource replica, @NonNull Duration maxLag, @NonNull Duration checkTimeout) {
+        this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(replica, "Replica data source cannot be null"));
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, checkTimeout.toSeconds()));
+        this.maxLag = Objects.requireNonNull(maxLag, "Max lag cannot be null");
+    }
+
+    /**
+     * @return true when read-only transactions may be routed to the replica
+     */
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    /**
+     * @return the lag measured by the last successful check, or null if the replica was unreachable
+     */
+    public Duration getLastLag() {
+        return lastLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        try {
+            Double seconds = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            Duration lag = Duration.ofMillis(Math.round((seconds != null ? seconds : 0) * 1000));
+            lastLag = lag;
+            available = lag.compareTo(maxLag) <= 0;
+        } catch (DataAccessException ex) {
+            lastLag = null;
+            available = false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.quality.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled maintenance jobs (e.g. activation partition maintenance).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,27 @@
+package com.quality.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Binary wire format configuration.
+ * Registers a CBOR message converter (Accept / Content-Type: application/cbor) built from the same
+ * Jackson settings as the JSON converter, so internal consumers get an identical model in a compact
+ * binary encoding. JSON stays first in the converter chain and remains the default representation.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    /**
+     * The CBOR mapper is deliberately not exposed as an ObjectMapper bean:
+     * doing so would make Spring Boot back off from creating the JSON ObjectMapper.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+}
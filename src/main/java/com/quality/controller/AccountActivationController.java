@@ -2,10 +2,20 @@ package com.quality.controller;
 
 import com.quality.config.OpenApiHeaders;
 import com.quality.dto.AccountActivationDTO;
+import com.quality.dto.AccountActivationPageDTO;
+import com.quality.dto.AccountActivationStatsDTO;
 import com.quality.model.AccountActivation;
+import com.quality.model.ActivationStatus;
+import com.quality.repository.projection.AccountActivationSummary;
+import com.quality.serialization.JsonStreamWriter;
+import com.quality.service.ActivationCounts;
+import com.quality.service.IAccountActivationService;
+import com.quality.service.IActivationCounterService;
+import com.quality.service.KeysetPage;
 import com.quality.service.implement.AccountActivationServiceImplement;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,14 +23,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -31,6 +44,8 @@ import static org.springframework.http.HttpStatus.OK;
 @Tag(name = "Activación de Cuentas", description = "Operaciones para activar cuentas bancarias mediante validación de identidad")
 public class AccountActivationController {
     private final AccountActivationServiceImplement service;
+    private final IActivationCounterService activationCounterService;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @GetMapping
     @OpenApiHeaders
@@ -40,7 +55,14 @@ public class AccountActivationController {
                      "Requiere encabezados de validación (x-correlation-id, x-client-id, x-user-id)."
     )
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lista obtenida exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = AccountActivationDTO.class))
+            )
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "Error de validación de encabezados",
@@ -50,9 +72,85 @@ public class AccountActivationController {
             )
         )
     })
-    public ResponseEntity<List<AccountActivationDTO>> findAll() {
-        List<AccountActivationDTO> list = service.findAll().stream().map(this::convertToSafeDto).collect(Collectors.toList());
-        return new ResponseEntity<>(list, OK);
+    public ResponseEntity<StreamingResponseBody> findAll(
+            @Parameter(description = "Vista de la respuesta: 'compact' usa nombres de campo abreviados y omite nulos", example = "compact")
+            @RequestParam(value = "view", required = false) String view,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType mediaType = jsonStreamWriter.negotiate(accept);
+        StreamingResponseBody body = jsonStreamWriter.writeArray(service::forEach, this::convertToSafeDto, JsonStreamWriter.isCompact(view), mediaType);
+        return ResponseEntity.status(OK).contentType(mediaType).body(body);
+    }
+
+    @GetMapping("/search")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Buscar intentos de activación",
+        description = "Busca intentos de activación por cuenta, estado y rango de fechas, del más reciente al más antiguo. " +
+                     "Si no se envía 'from', se consultan las últimas 24 horas hasta 'to' (por defecto, ahora). " +
+                     "La paginación es por cursor: enviar 'nextCursor' de la respuesta anterior para obtener la siguiente página."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página obtenida exitosamente"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Error de validación de encabezados, rango de fechas, límite o cursor inválido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        )
+    })
+    public ResponseEntity<AccountActivationPageDTO> search(
+            @Parameter(description = "ID de la cuenta", example = "1")
+            @RequestParam(value = "idAccount", required = false) Integer idAccount,
+            @Parameter(description = "Estado del intento", example = "FAILED")
+            @RequestParam(value = "status", required = false) ActivationStatus status,
+            @Parameter(description = "Fecha inicial inclusiva (ISO-8601)", example = "2024-01-16T00:00:00")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fecha final exclusiva (ISO-8601)", example = "2024-01-17T00:00:00")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Tamaño de página (1 a 500)", example = "50")
+            @RequestParam(value = "limit", defaultValue = "" + IAccountActivationService.DEFAULT_SEARCH_LIMIT) int limit,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        KeysetPage<AccountActivationSummary> page = service.search(idAccount, status, from, to, limit, cursor);
+        AccountActivationPageDTO body = new AccountActivationPageDTO(
+                page.items().stream().map(this::convertSummaryToSafeDto).toList(),
+                page.nextCursor()
+        );
+        return new ResponseEntity<>(body, OK);
+    }
+
+    @GetMapping("/stats/{idAccount}")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Estadísticas recientes de activación de una cuenta",
+        description = "Devuelve la cantidad de intentos exitosos y fallidos de la cuenta en la última hora. " +
+                     "Se calcula con contadores en memoria, sin consultar la base de datos; " +
+                     "una cuenta sin intentos recientes (o inexistente) devuelve contadores en cero."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas exitosamente"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Error de validación de encabezados",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        )
+    })
+    public ResponseEntity<AccountActivationStatsDTO> stats(
+            @Parameter(description = "ID de la cuenta", required = true, example = "1")
+            @PathVariable("idAccount") @NonNull Integer idAccount) {
+        ActivationCounts counts = activationCounterService.getCounts(idAccount);
+        AccountActivationStatsDTO dto = new AccountActivationStatsDTO(
+                counts.idAccount(),
+                counts.window().toMinutes(),
+                counts.successCount(),
+                counts.failedCount()
+        );
+        return new ResponseEntity<>(dto, OK);
     }
 
     @GetMapping("/{id}")
@@ -187,6 +285,19 @@ public class AccountActivationController {
         return dto;
     }
 
+    /**
+     * Converts a history projection to the same safe DTO used by findAll.
+     */
+    private AccountActivationDTO convertSummaryToSafeDto(@NonNull AccountActivationSummary summary) {
+        AccountActivationDTO dto = new AccountActivationDTO();
+        dto.setIdAccountActivation(summary.getIdAccountActivation());
+        dto.setIdAccount(summary.getIdAccount());
+        dto.setActivationStatus(summary.getActivationStatus());
+        dto.setErrorReason(summary.getErrorReason());
+        dto.setAttemptDate(summary.getAttemptDate());
+        return dto;
+    }
+
     /**
      * Converts to minimal DTO for activation response - only the result.
      * Returns only: activationStatus, errorReason (if failed).
@@ -1,17 +1,28 @@
 package com.quality.controller;
 
+import com.quality.config.ErrorCodeDescriptions;
 import com.quality.config.OpenApiHeaders;
 import com.quality.dto.AccountDTO;
+import com.quality.dto.AccountLookupDTO;
+import com.quality.dto.BatchItemDTO;
+import com.quality.dto.ChangeFeedPageDTO;
+import com.quality.exception.validation.InvalidFieldFormatException;
 import com.quality.model.Account;
 import com.quality.model.Client;
 import com.quality.model.Currency;
 import com.quality.model.TypeAccount;
+import com.quality.serialization.JsonStreamWriter;
+import com.quality.service.ChangeFeedPage;
+import com.quality.service.IAccountStatusStream;
+import com.quality.service.IChangeFeedService;
 import com.quality.service.implement.AccountServiceImplement;
+import com.quality.service.implement.ChunkedLookup;
 import com.quality.service.implement.ClientServiceImplement;
 import com.quality.service.implement.CurrencyServiceImplement;
 import com.quality.service.implement.TypeAccountServiceImplement;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,18 +32,22 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 @RestController
 @RequestMapping("/accounts")
@@ -40,9 +55,12 @@ import static org.springframework.http.HttpStatus.OK;
 @Tag(name = "Cuentas Bancarias", description = "Operaciones CRUD para la gestión de cuentas bancarias")
 public class AccountController {
     private final AccountServiceImplement service;
+    private final JsonStreamWriter jsonStreamWriter;
     private final ClientServiceImplement clientService;
     private final TypeAccountServiceImplement typeAccountService;
     private final CurrencyServiceImplement currencyService;
+    private final IChangeFeedService changeFeedService;
+    private final IAccountStatusStream statusStream;
     @Qualifier("defaultMapper")
     private final ModelMapper mapper;
 
@@ -54,7 +72,14 @@ public class AccountController {
                      "Requiere encabezados de validación (x-correlation-id, x-client-id, x-user-id)."
     )
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lista obtenida exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = AccountDTO.class))
+            )
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "Error de validación de encabezados",
@@ -64,9 +89,137 @@ public class AccountController {
             )
         )
     })
-    public ResponseEntity<List<AccountDTO>> findAll() {
-        List<AccountDTO> list = service.findAll().stream().map(this::convertToDto).collect(Collectors.toList());
-        return new ResponseEntity<>(list, OK);
+    public ResponseEntity<StreamingResponseBody> findAll(
+            @Parameter(description = "Vista de la respuesta: 'compact' usa nombres de campo abreviados y omite nulos", example = "compact")
+            @RequestParam(value = "view", required = false) String view,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType mediaType = jsonStreamWriter.negotiate(accept);
+        StreamingResponseBody body = jsonStreamWriter.writeArray(service::forEach, this::convertToDto, JsonStreamWriter.isCompact(view), mediaType);
+        return ResponseEntity.status(OK).contentType(mediaType).body(body);
+    }
+
+    @GetMapping(params = "ids")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Consultar cuentas por lote de IDs",
+        description = "Resuelve una lista de IDs separados por coma (máximo " + ChunkedLookup.MAX_KEYS + ") con consultas IN agrupadas. " +
+                     "La respuesta conserva el orden de la solicitud e indica con 'found' los IDs inexistentes."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Consulta resuelta; cada elemento indica si la clave fue encontrada",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = BatchItemDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = ErrorCodeDescriptions.ACCOUNT_LOOKUP_400,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        )
+    })
+    public ResponseEntity<List<BatchItemDTO<AccountDTO>>> findAllByIds(
+            @Parameter(description = "IDs de cuenta separados por coma", required = true, example = "1,2,3")
+            @RequestParam("ids") List<Integer> ids) {
+        if (ids.isEmpty() || ids.size() > ChunkedLookup.MAX_KEYS || ids.contains(null)) {
+            throw new InvalidFieldFormatException("ids", ids, "Must contain between 1 and " + ChunkedLookup.MAX_KEYS + " account IDs");
+        }
+        return new ResponseEntity<>(BatchItemDTO.inOrder(ids, service.findAllByIds(ids), this::convertToDto), OK);
+    }
+
+    @PostMapping("/lookup")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Consultar cuentas por lote de números de cuenta",
+        description = "Resuelve una lista de números de cuenta (máximo " + ChunkedLookup.MAX_KEYS + ") con consultas IN agrupadas. " +
+                     "La respuesta conserva el orden de la solicitud e indica con 'found' los números inexistentes."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Consulta resuelta; cada elemento indica si la clave fue encontrada",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = BatchItemDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = ErrorCodeDescriptions.ACCOUNT_LOOKUP_400,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        )
+    })
+    public ResponseEntity<List<BatchItemDTO<AccountDTO>>> lookup(@Valid @RequestBody AccountLookupDTO dto) {
+        List<String> accountNumbers = dto.getAccountNumbers();
+        return new ResponseEntity<>(BatchItemDTO.inOrder(accountNumbers, service.findAllByAccountNumbers(accountNumbers), this::convertToDto), OK);
+    }
+
+    @GetMapping("/changes")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Cambios de cuentas para sincronización incremental",
+        description = "Devuelve las cuentas creadas, modificadas o eliminadas después del token 'since', " +
+                     "ordenadas por fecha de modificación. Sin 'since' se listan todas las cuentas actuales. " +
+                     "Enviar 'nextToken' de la respuesta como 'since' en la siguiente consulta; si 'hasMore' es true, " +
+                     "consultar de nuevo de inmediato. Los cambios aparecen tras unos segundos (changes.settle-window)."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de cambios obtenida exitosamente"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Error de validación de encabezados, límite o token inválido o anterior a la retención de eliminaciones",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        )
+    })
+    public ResponseEntity<ChangeFeedPageDTO<AccountDTO>> changes(
+            @Parameter(description = "Token devuelto por la consulta anterior ('nextToken')")
+            @RequestParam(value = "since", required = false) String since,
+            @Parameter(description = "Tamaño de página (1 a 1000)", example = "100")
+            @RequestParam(value = "limit", defaultValue = "" + IChangeFeedService.DEFAULT_LIMIT) int limit) {
+        ChangeFeedPage<Account> page = changeFeedService.accountChanges(since, limit);
+        return new ResponseEntity<>(ChangeFeedPageDTO.from(page, this::convertToDto), OK);
+    }
+
+    @GetMapping(value = "/status-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @OpenApiHeaders
+    @Operation(
+        summary = "Suscribirse a cambios de estado de cuentas (SSE)",
+        description = "Abre un flujo Server-Sent Events con un evento 'account-status' por cada cambio de estado confirmado " +
+                     "(por ejemplo, INACTIVE a ACTIVE al activar la cuenta). Reemplaza el sondeo de GET /accounts/{id}. " +
+                     "Al reconectar, el encabezado Last-Event-ID recupera los eventos perdidos; si ya no están disponibles " +
+                     "se envía un evento 'reset' y el cliente debe volver a consultar el estado de las cuentas."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Flujo de eventos abierto"),
+        @ApiResponse(
+            responseCode = "400",
+            description = ErrorCodeDescriptions.ACCOUNT_STATUS_EVENTS_400,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        ),
+        @ApiResponse(responseCode = "503", description = "Límite de suscriptores alcanzado; reintentar más tarde")
+    })
+    public ResponseEntity<SseEmitter> statusEvents(
+            @Parameter(description = "Solo eventos de esta cuenta (opcional)", example = "1")
+            @RequestParam(value = "idAccount", required = false) Integer idAccount,
+            @Parameter(description = "ID del último evento recibido, enviado por el cliente SSE al reconectar")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return statusStream.subscribe(idAccount, lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build());
     }
 
     @GetMapping("/{id}")
@@ -159,6 +312,22 @@ public class AccountController {
                 mediaType = "application/json",
                 schema = @Schema(ref = "#/components/schemas/ErrorResponse")
             )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = ErrorCodeDescriptions.ACCOUNT_POST_409,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = ErrorCodeDescriptions.ACCOUNT_POST_422,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
         )
     })
     @SuppressWarnings("null")
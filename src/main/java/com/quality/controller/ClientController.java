@@ -2,13 +2,27 @@ package com.quality.controller;
 
 import com.quality.config.ErrorCodeDescriptions;
 import com.quality.config.OpenApiHeaders;
+import com.quality.dto.BatchItemDTO;
+import com.quality.dto.ChangeFeedPageDTO;
+import com.quality.dto.ClientAccountOverviewDTO;
 import com.quality.dto.ClientDTO;
+import com.quality.dto.ClientLookupDTO;
+import com.quality.dto.ClientOverviewDTO;
 import com.quality.model.Client;
 import com.quality.model.TypeDocument;
+import com.quality.repository.projection.ClientAccountSummary;
+import com.quality.serialization.JsonStreamWriter;
+import com.quality.service.ChangeFeedPage;
+import com.quality.service.ClientOverview;
+import com.quality.service.ICatalogCodeCache;
+import com.quality.service.IChangeFeedService;
+import com.quality.service.IClientOverviewService;
+import com.quality.service.implement.ChunkedLookup;
 import com.quality.service.implement.ClientServiceImplement;
 import com.quality.service.implement.TypeDocumentServiceImplement;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,15 +32,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -37,7 +53,11 @@ import static org.springframework.http.HttpStatus.OK;
 @Tag(name = "Clientes", description = "Operaciones CRUD para la gestión de clientes")
 public class ClientController {
     private final ClientServiceImplement service;
+    private final JsonStreamWriter jsonStreamWriter;
     private final TypeDocumentServiceImplement typeDocumentService;
+    private final IClientOverviewService overviewService;
+    private final ICatalogCodeCache catalogCodeCache;
+    private final IChangeFeedService changeFeedService;
     @Qualifier("defaultMapper")
     private final ModelMapper mapper;
 
@@ -49,7 +69,14 @@ public class ClientController {
                      "Requiere encabezados de validación (x-correlation-id, x-client-id, x-user-id)."
     )
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lista obtenida exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ClientDTO.class))
+            )
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = ErrorCodeDescriptions.CLIENT_GET_ALL_400,
@@ -62,9 +89,72 @@ public class ClientController {
             )
         )
     })
-    public ResponseEntity<List<ClientDTO>> findAll() {
-        List<ClientDTO> list = service.findAll().stream().map(this::convertToDto).collect(Collectors.toList());
-        return new ResponseEntity<>(list, OK);
+    public ResponseEntity<StreamingResponseBody> findAll(
+            @Parameter(description = "Vista de la respuesta: 'compact' usa nombres de campo abreviados y omite nulos", example = "compact")
+            @RequestParam(value = "view", required = false) String view,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType mediaType = jsonStreamWriter.negotiate(accept);
+        StreamingResponseBody body = jsonStreamWriter.writeArray(service::forEach, this::convertToDto, JsonStreamWriter.isCompact(view), mediaType);
+        return ResponseEntity.status(OK).contentType(mediaType).body(body);
+    }
+
+    @PostMapping("/lookup")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Consultar clientes por lote de IDs",
+        description = "Resuelve una lista de IDs de cliente (máximo " + ChunkedLookup.MAX_KEYS + ") con consultas IN agrupadas. " +
+                     "La respuesta conserva el orden de la solicitud e indica con 'found' los IDs inexistentes."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Consulta resuelta; cada elemento indica si la clave fue encontrada",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = BatchItemDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = ErrorCodeDescriptions.CLIENT_LOOKUP_400,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        )
+    })
+    public ResponseEntity<List<BatchItemDTO<ClientDTO>>> lookup(@Valid @RequestBody ClientLookupDTO dto) {
+        List<Integer> ids = dto.getIds();
+        return new ResponseEntity<>(BatchItemDTO.inOrder(ids, service.findAllByIds(ids), this::convertToDto), OK);
+    }
+
+    @GetMapping("/changes")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Cambios de clientes para sincronización incremental",
+        description = "Devuelve los clientes creados, modificados o eliminados después del token 'since', " +
+                     "ordenados por fecha de modificación. Sin 'since' se listan todos los clientes actuales. " +
+                     "Enviar 'nextToken' de la respuesta como 'since' en la siguiente consulta; si 'hasMore' es true, " +
+                     "consultar de nuevo de inmediato. Los cambios aparecen tras unos segundos (changes.settle-window)."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de cambios obtenida exitosamente"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Error de validación de encabezados, límite o token inválido o anterior a la retención de eliminaciones",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
+        )
+    })
+    public ResponseEntity<ChangeFeedPageDTO<ClientDTO>> changes(
+            @Parameter(description = "Token devuelto por la consulta anterior ('nextToken')")
+            @RequestParam(value = "since", required = false) String since,
+            @Parameter(description = "Tamaño de página (1 a 1000)", example = "100")
+            @RequestParam(value = "limit", defaultValue = "" + IChangeFeedService.DEFAULT_LIMIT) int limit) {
+        ChangeFeedPage<Client> page = changeFeedService.clientChanges(since, limit);
+        return new ResponseEntity<>(ChangeFeedPageDTO.from(page, this::convertToDto), OK);
     }
 
     @GetMapping("/{id}")
@@ -106,6 +196,48 @@ public class ClientController {
         return new ResponseEntity<>(this.convertToDto(obj), OK);
     }
 
+    @GetMapping("/{id}/overview")
+    @OpenApiHeaders
+    @Operation(
+        summary = "Vista general del cliente",
+        description = "Devuelve el cliente, sus cuentas con los códigos de tipo de cuenta y moneda, " +
+                     "y el resultado del último intento de activación de cada cuenta, en una sola respuesta."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Vista general obtenida exitosamente"),
+        @ApiResponse(
+            responseCode = "400",
+            description = ErrorCodeDescriptions.CLIENT_GET_BY_ID_400,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                    value = com.quality.config.SwaggerExamples.HEADER_VALIDATION_ERROR
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = ErrorCodeDescriptions.CLIENT_GET_BY_ID_404,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                    value = com.quality.config.SwaggerExamples.CLIENT_NOT_FOUND_ERROR
+                )
+            )
+        )
+    })
+    public ResponseEntity<ClientOverviewDTO> findOverview(
+            @Parameter(description = "ID del cliente", required = true, example = "1")
+            @PathVariable("id") @NonNull Integer id) {
+        ClientOverview overview = overviewService.findOverview(id);
+        List<ClientAccountOverviewDTO> accounts = overview.accounts().stream().map(this::convertToOverviewDto).toList();
+        ClientOverviewDTO dto = new ClientOverviewDTO(
+                this.convertToDto(overview.client()), overview.client().getTypeDocument().getCode(), accounts);
+        return new ResponseEntity<>(dto, OK);
+    }
+
     @PostMapping
     @OpenApiHeaders
     @Operation(
@@ -166,6 +298,14 @@ public class ClientController {
                     )
                 }
             )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = ErrorCodeDescriptions.CLIENT_POST_422,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(ref = "#/components/schemas/ErrorResponse")
+            )
         )
     })
     @SuppressWarnings("null") // service.save() is @NonNull, guarantee satisfied
@@ -304,6 +444,22 @@ public class ClientController {
         return dto;
     }
 
+    @NonNull
+    private ClientAccountOverviewDTO convertToOverviewDto(@NonNull ClientAccountSummary summary) {
+        ClientAccountOverviewDTO dto = new ClientAccountOverviewDTO();
+        dto.setIdAccount(summary.getIdAccount());
+        dto.setAccountNumber(summary.getAccountNumber());
+        dto.setTypeAccountCode(catalogCodeCache.typeAccountCode(summary.getIdTypeAccount()));
+        dto.setCurrencyCode(catalogCodeCache.currencyCode(summary.getIdCurrency()));
+        dto.setBalance(summary.getBalance());
+        dto.setStatus(summary.getStatus());
+        dto.setCreatedDate(summary.getCreatedDate());
+        dto.setActivatedDate(summary.getActivatedDate());
+        dto.setLastActivationStatus(summary.getLastActivationStatus());
+        dto.setLastActivationDate(summary.getLastAttemptDate());
+        return dto;
+    }
+
     @NonNull
     @SuppressWarnings("null") // ModelMapper guarantees non-null mapping result
     private Client convertToEntity(@NonNull ClientDTO dto) {
@@ -3,6 +3,7 @@ package com.quality.controller;
 import com.quality.config.OpenApiHeaders;
 import com.quality.dto.CurrencyDTO;
 import com.quality.model.Currency;
+import com.quality.service.ICatalogVersionService;
 import com.quality.service.implement.CurrencyServiceImplement;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
@@ -24,6 +27,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -33,8 +37,11 @@ import static org.springframework.http.HttpStatus.OK;
 @Tag(name = "Monedas", description = "Operaciones CRUD para la gestión de monedas")
 public class CurrencyController {
     private final CurrencyServiceImplement service;
+    private final ICatalogVersionService catalogVersionService;
     @Qualifier("defaultMapper")
     private final ModelMapper mapper;
+    @Qualifier("catalogCacheControl")
+    private final CacheControl cacheControl;
 
     @GetMapping
     @OpenApiHeaders
@@ -45,6 +52,7 @@ public class CurrencyController {
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+        @ApiResponse(responseCode = "304", description = "El catálogo no cambió desde el ETag enviado en If-None-Match"),
         @ApiResponse(
             responseCode = "400", 
             description = "Error de validación de encabezados",
@@ -54,9 +62,16 @@ public class CurrencyController {
             )
         )
     })
-    public ResponseEntity<List<CurrencyDTO>> findAll() {
+    public ResponseEntity<List<CurrencyDTO>> findAll(
+            @Parameter(description = "ETag de una respuesta anterior para validación condicional", example = "\"currencies-3f2a9c1d5e7b8a04\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Version is read before querying: a concurrent write can only leave the ETag behind the data, never ahead of it
+        String etag = catalogVersionService.currentETag(ICatalogVersionService.CURRENCIES);
+        if (catalogVersionService.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
         List<CurrencyDTO> list = service.findAll().stream().map(this::convertToDto).collect(Collectors.toList());
-        return new ResponseEntity<>(list, OK);
+        return ResponseEntity.status(OK).eTag(etag).cacheControl(cacheControl).body(list);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,94 @@
+package com.quality.controller;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Serves the OpenAPI document generated at build time (prepare-package, see pom.xml) in the prod
+ * profile, where runtime springdoc scanning is disabled.
+ * The plain and gzip-compressed documents are loaded once at startup; clients that accept gzip
+ * get the pre-compressed bytes, so nothing is built or compressed per request.
+ * Startup fails when either document is missing from the build, instead of serving 404s.
+ */
+@Hidden
+@RestController
+@Profile("prod")
+public class OpenApiDocumentController {
+
+    static final String DOCUMENT_LOCATION = "openapi/openapi.json";
+    static final String COMPRESSED_DOCUMENT_LOCATION = DOCUMENT_LOCATION + ".gz";
+
+    private final byte[] document;
+    private final byte[] compressedDocument;
+
+    public OpenApiDocumentController() {
+        this.document = load(DOCUMENT_LOCATION);
+        this.compressedDocument = load(COMPRESSED_DOCUMENT_LOCATION);
+    }
+
+    @GetMapping(value = "/v3/api-docs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> apiDocs(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(compressedDocument);
+        }
+        return response.body(document);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException ex) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads a classpath resource fully.
+     * @throws IllegalStateException if the build did not produce it
+     */
+    private static byte[] load(String location) {
+        ClassPathResource resource = new ClassPathResource(location);
+        if (!resource.exists()) {
+            throw new IllegalStateException("Missing " + location + ": package the application without -Dopenapi.skip=true");
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            return StreamUtils.copyToByteArray(inputStream);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read " + location, ex);
+        }
+    }
+}
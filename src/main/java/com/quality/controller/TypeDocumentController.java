@@ -4,6 +4,7 @@ import com.quality.config.ErrorCodeDescriptions;
 import com.quality.config.OpenApiHeaders;
 import com.quality.dto.TypeDocumentDTO;
 import com.quality.model.TypeDocument;
+import com.quality.service.ICatalogVersionService;
 import com.quality.service.implement.TypeDocumentServiceImplement;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +17,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +29,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -35,8 +39,11 @@ import static org.springframework.http.HttpStatus.OK;
 @Tag(name = "Tipos de Documento", description = "Operaciones CRUD para la gestión de tipos de documento")
 public class TypeDocumentController {
     private final TypeDocumentServiceImplement service;
+    private final ICatalogVersionService catalogVersionService;
     @Qualifier("defaultMapper")
     private final ModelMapper mapper;
+    @Qualifier("catalogCacheControl")
+    private final CacheControl cacheControl;
 
     @GetMapping
     @OpenApiHeaders
@@ -47,6 +54,7 @@ public class TypeDocumentController {
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+        @ApiResponse(responseCode = "304", description = "El catálogo no cambió desde el ETag enviado en If-None-Match"),
         @ApiResponse(
             responseCode = "400", 
             description = ErrorCodeDescriptions.TYPE_DOC_GET_ALL_400,
@@ -59,9 +67,16 @@ public class TypeDocumentController {
             )
         )
     })
-    public ResponseEntity<List<TypeDocumentDTO>> findAll() {
+    public ResponseEntity<List<TypeDocumentDTO>> findAll(
+            @Parameter(description = "ETag de una respuesta anterior para validación condicional", example = "\"type-documents-c71d4a0e92b5f386\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Version is read before querying: a concurrent write can only leave the ETag behind the data, never ahead of it
+        String etag = catalogVersionService.currentETag(ICatalogVersionService.TYPE_DOCUMENTS);
+        if (catalogVersionService.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
         List<TypeDocumentDTO> list = service.findAll().stream().map(this::convertToDto).collect(Collectors.toList());
-        return new ResponseEntity<>(list, OK);
+        return ResponseEntity.status(OK).eTag(etag).cacheControl(cacheControl).body(list);
     }
 
     @GetMapping("/{id}")
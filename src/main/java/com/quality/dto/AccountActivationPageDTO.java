@@ -0,0 +1,23 @@
+package com.quality.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Página de intentos de activación (paginación por cursor)")
+public class AccountActivationPageDTO {
+
+    @Schema(description = "Intentos de activación de la página, del más reciente al más antiguo")
+    private List<AccountActivationDTO> items;
+
+    @Schema(description = "Cursor para solicitar la siguiente página; ausente en la última página", example = "MjAyNC0wMS0xNlQxNDo0NTowMHwxMjM")
+    private String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.quality.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Estadísticas recientes de intentos de activación de una cuenta")
+public class AccountActivationStatsDTO {
+
+    @Schema(description = "ID de la cuenta", example = "1")
+    private Integer idAccount;
+
+    @Schema(description = "Ventana de tiempo en minutos, hasta el momento actual", example = "60")
+    private Long windowMinutes;
+
+    @Schema(description = "Intentos exitosos en la ventana", example = "1")
+    private Long successCount;
+
+    @Schema(description = "Intentos fallidos en la ventana", example = "3")
+    private Long failedCount;
+}
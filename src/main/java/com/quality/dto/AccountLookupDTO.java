@@ -0,0 +1,22 @@
+package com.quality.dto;
+
+import com.quality.service.implement.ChunkedLookup;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "Consulta de cuentas por lote de números de cuenta")
+public class AccountLookupDTO {
+
+    @NotNull(message = "Account numbers are required")
+    @Size(min = 1, max = ChunkedLookup.MAX_KEYS, message = "Account numbers must contain between 1 and 1000 values")
+    @Schema(description = "Números de cuenta a consultar; la respuesta conserva este orden", example = "[\"SAUSD17385212345678\", \"CAPEN17385212345679\"]")
+    private List<@NotBlank(message = "Account number cannot be blank") String> accountNumbers;
+}
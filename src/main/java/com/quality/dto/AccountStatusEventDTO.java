@@ -0,0 +1,28 @@
+package com.quality.dto;
+
+import com.quality.model.AccountStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Evento de cambio de estado de una cuenta (datos del evento SSE 'account-status')")
+public class AccountStatusEventDTO {
+
+    @Schema(description = "ID de la cuenta", example = "1")
+    private Integer idAccount;
+
+    @Schema(description = "Estado anterior", example = "INACTIVE")
+    private AccountStatus previousStatus;
+
+    @Schema(description = "Estado nuevo", example = "ACTIVE")
+    private AccountStatus status;
+
+    @Schema(description = "Fecha del cambio", example = "2024-01-16T14:45:00")
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,48 @@
+package com.quality.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de una consulta por lote: un elemento por clave solicitada, en el mismo orden")
+public class BatchItemDTO<T> {
+
+    @Schema(description = "Clave solicitada (ID o número)", example = "1")
+    private Object key;
+
+    @Schema(description = "Indica si existe un recurso con la clave solicitada", example = "true")
+    private boolean found;
+
+    @Schema(description = "Recurso encontrado; ausente cuando found es false")
+    private T item;
+
+    /**
+     * Builds one item per requested key, keeping the request order (repeated keys are repeated).
+     *
+     * @param keys the requested keys, in request order
+     * @param found the found entities by key
+     * @param converter converts a found entity to its DTO
+     * @return the batch items (never null)
+     */
+    public static <K, E, D> List<BatchItemDTO<D>> inOrder(List<K> keys, Map<K, E> found, Function<E, D> converter) {
+        List<BatchItemDTO<D>> items = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            E entity = found.get(key);
+            items.add(entity != null
+                    ? new BatchItemDTO<>(key, true, converter.apply(entity))
+                    : new BatchItemDTO<>(key, false, null));
+        }
+        return items;
+    }
+}
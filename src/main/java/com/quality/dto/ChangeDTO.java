@@ -0,0 +1,29 @@
+package com.quality.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Cambio de un recurso: estado actual si fue creado o modificado, o marca de eliminación")
+public class ChangeDTO<T> {
+
+    @Schema(description = "ID del recurso", example = "1")
+    private Integer id;
+
+    @Schema(description = "Indica si el recurso fue eliminado", example = "false")
+    private boolean deleted;
+
+    @Schema(description = "Fecha de la última modificación o de la eliminación", example = "2024-01-16T14:45:00")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "Estado actual del recurso; ausente si fue eliminado")
+    private T item;
+}
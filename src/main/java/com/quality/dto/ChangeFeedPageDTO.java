@@ -0,0 +1,41 @@
+package com.quality.dto;
+
+import com.quality.service.ChangeFeedPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Página de cambios para sincronización incremental")
+public class ChangeFeedPageDTO<T> {
+
+    @Schema(description = "Cambios ordenados por fecha de modificación")
+    private List<ChangeDTO<T>> changes;
+
+    @Schema(description = "Token para la siguiente consulta (enviar como 'since')", example = "MjAyNC0wMS0xNlQxNDo0NTowMHwxMjM")
+    private String nextToken;
+
+    @Schema(description = "Indica si ya hay más cambios disponibles; consultar de nuevo sin esperar", example = "false")
+    private boolean hasMore;
+
+    /**
+     * Converts a change feed page, mapping the state of each modified resource to its DTO.
+     *
+     * @param page the change feed page
+     * @param converter converts a resource to its DTO
+     * @return the page DTO (never null)
+     */
+    public static <E, D> ChangeFeedPageDTO<D> from(ChangeFeedPage<E> page, Function<E, D> converter) {
+        List<ChangeDTO<D>> changes = page.changes().stream()
+                .map(change -> new ChangeDTO<>(change.id(), change.deleted(), change.changedAt(),
+                        change.deleted() ? null : converter.apply(change.item())))
+                .toList();
+        return new ChangeFeedPageDTO<>(changes, page.nextToken(), page.hasMore());
+    }
+}
@@ -0,0 +1,48 @@
+package com.quality.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.quality.model.AccountStatus;
+import com.quality.model.ActivationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resumen de una cuenta en la vista general del cliente")
+public class ClientAccountOverviewDTO {
+
+    @Schema(description = "Identificador de la cuenta", example = "1")
+    private Integer idAccount;
+
+    @Schema(description = "Número de cuenta", example = "SAUSD17385212345678")
+    private String accountNumber;
+
+    @Schema(description = "Código del tipo de cuenta", example = "SAV")
+    private String typeAccountCode;
+
+    @Schema(description = "Código de la moneda", example = "USD")
+    private String currencyCode;
+
+    @Schema(description = "Saldo de la cuenta", example = "1000.50")
+    private BigDecimal balance;
+
+    @Schema(description = "Estado de la cuenta", example = "ACTIVE")
+    private AccountStatus status;
+
+    @Schema(description = "Fecha de creación", example = "2024-01-15T10:30:00")
+    private LocalDateTime createdDate;
+
+    @Schema(description = "Fecha de activación; ausente si la cuenta no fue activada", example = "2024-01-16T14:45:00")
+    private LocalDateTime activatedDate;
+
+    @Schema(description = "Resultado del último intento de activación; ausente si no hubo intentos", example = "SUCCESS")
+    private ActivationStatus lastActivationStatus;
+
+    @Schema(description = "Fecha del último intento de activación", example = "2024-01-16T14:45:00")
+    private LocalDateTime lastActivationDate;
+}
@@ -0,0 +1,21 @@
+package com.quality.dto;
+
+import com.quality.service.implement.ChunkedLookup;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "Consulta de clientes por lote de IDs")
+public class ClientLookupDTO {
+
+    @NotNull(message = "Client IDs are required")
+    @Size(min = 1, max = ChunkedLookup.MAX_KEYS, message = "Client IDs must contain between 1 and 1000 values")
+    @Schema(description = "IDs de cliente a consultar; la respuesta conserva este orden", example = "[1, 2, 3]")
+    private List<@NotNull(message = "Client ID cannot be null") Integer> ids;
+}
@@ -0,0 +1,24 @@
+package com.quality.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Vista general del cliente: datos del cliente y resumen de sus cuentas")
+public class ClientOverviewDTO {
+
+    @Schema(description = "Datos del cliente")
+    private ClientDTO client;
+
+    @Schema(description = "Código del tipo de documento del cliente", example = "DNI")
+    private String typeDocumentCode;
+
+    @Schema(description = "Cuentas del cliente, ordenadas por ID")
+    private List<ClientAccountOverviewDTO> accounts;
+}
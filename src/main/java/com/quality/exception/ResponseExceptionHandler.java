@@ -4,8 +4,12 @@ import com.quality.exception.header.HeaderException;
 import com.quality.exception.resource.ResourceNotFoundException;
 import com.quality.exception.response.*;
 import com.quality.exception.validation.DuplicateFieldException;
+import com.quality.exception.validation.InvalidFieldFormatException;
+import com.quality.serialization.ErrorResponseWriter;
 import com.quality.validation.ErrorCodeConstants;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.lang.NonNull;
 import org.springframework.validation.FieldError;
@@ -15,28 +19,31 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.io.IOException;
 import java.net.URI;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     /**
      * Generic handler for all HeaderException types.
      * Applies Open/Closed Principle (OCP) - handles all header exceptions polymorphically.
      */
     @ExceptionHandler(HeaderException.class)
-    @NonNull
-    public ResponseEntity<com.quality.exception.response.ErrorResponse> handleHeaderException(
+    public void handleHeaderException(
             @NonNull HeaderException ex,
-            @NonNull HttpServletRequest request
-    ) {
-        com.quality.exception.response.ErrorResponse response = ErrorResponseBuilder.build(ex, request);
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse servletResponse
+    ) throws IOException {
+        ErrorResponse response = ErrorResponseBuilder.build(ex, request);
+        errorResponseWriter.write(request, servletResponse, HttpStatus.BAD_REQUEST, response);
     }
 
     /**
@@ -44,13 +51,13 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
      * Applies Open/Closed Principle (OCP) - handles all resource not found exceptions polymorphically.
      */
     @ExceptionHandler(ResourceNotFoundException.class)
-    @NonNull
-    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+    public void handleResourceNotFoundException(
             @NonNull ResourceNotFoundException ex,
-            @NonNull HttpServletRequest request
-    ) {
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse servletResponse
+    ) throws IOException {
         ErrorResponse response = ResourceErrorResponseBuilder.build(ex, request);
-        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+        errorResponseWriter.write(request, servletResponse, HttpStatus.NOT_FOUND, response);
     }
 
     /**
@@ -59,18 +66,16 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
      * Returns HTTP 409 CONFLICT.
      */
     @ExceptionHandler(DuplicateFieldException.class)
-    @NonNull
-    public ResponseEntity<ErrorResponse> handleDuplicateFieldException(
+    public void handleDuplicateFieldException(
             @NonNull DuplicateFieldException ex,
-            @NonNull HttpServletRequest request
-    ) {
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse servletResponse
+    ) throws IOException {
         String path = Objects.requireNonNull(request.getRequestURI(), "Request URI cannot be null");
         String method = Objects.requireNonNull(request.getMethod(), "Request method cannot be null");
 
-        // Build HATEOAS links
-        Map<String, ErrorLink> links = new HashMap<>();
-        links.put("self", ErrorLink.builder().href(path).method(method).build());
-        links.put("documentation", ErrorLink.builder().href(ErrorCodeConstants.DOCUMENTATION_BASE_URL + ex.getSubtypeCode()).build());
+        // Build HATEOAS links: self + shared documentation link
+        Map<String, ErrorLink> links = ErrorLinkRegistry.links(ex.getSubtypeCode(), path, method);
 
         // Build error details info
         ErrorDetailsValidationInfo detailsInfo = new ErrorDetailsValidationInfo(
@@ -91,13 +96,56 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
                 .subtype(ErrorCodeConstants.SUBTYPE_DUPLICATE_VALUE)
                 .details(detailsInfo)
                 .path(path)
-                .documentationUrl(ErrorCodeConstants.DOCUMENTATION_BASE_URL + ex.getSubtypeCode())
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(ex.getSubtypeCode()))
+                ._links(links)
+                .build();
+
+        ErrorResponse response = new ErrorResponse(errorDetail);
+
+        errorResponseWriter.write(request, servletResponse, HttpStatus.CONFLICT, response);
+    }
+
+    /**
+     * Handler for InvalidFieldFormatException (RBV-006).
+     * Handles malformed or out-of-range field and parameter values.
+     * Returns HTTP 400 BAD REQUEST.
+     */
+    @ExceptionHandler(InvalidFieldFormatException.class)
+    public void handleInvalidFieldFormatException(
+            @NonNull InvalidFieldFormatException ex,
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse servletResponse
+    ) throws IOException {
+        String path = Objects.requireNonNull(request.getRequestURI(), "Request URI cannot be null");
+        String method = Objects.requireNonNull(request.getMethod(), "Request method cannot be null");
+
+        // Build HATEOAS links: self + shared documentation link
+        Map<String, ErrorLink> links = ErrorLinkRegistry.links(ex.getSubtypeCode(), path, method);
+
+        ErrorDetailsValidationInfo detailsInfo = new ErrorDetailsValidationInfo(
+                ex.getFieldName(),
+                ex.getFieldValue(),
+                ex.getConstraint()
+        );
+
+        ErrorDetailValidation errorDetail = ErrorDetailValidation.builder()
+                .timestamp(LocalDateTime.now())
+                .status(400)
+                .error("Bad Request")
+                .message(ex.getMessage())
+                .typeCode(ex.getTypeCode())
+                .type(ErrorCodeConstants.TYPE_VALIDATION)
+                .subtypeCode(ex.getSubtypeCode())
+                .subtype(ErrorCodeConstants.SUBTYPE_INVALID_FIELD_FORMAT)
+                .details(detailsInfo)
+                .path(path)
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(ex.getSubtypeCode()))
                 ._links(links)
                 .build();
 
         ErrorResponse response = new ErrorResponse(errorDetail);
 
-        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+        errorResponseWriter.write(request, servletResponse, HttpStatus.BAD_REQUEST, response);
     }
 
     @ExceptionHandler(Exception.class)
@@ -209,9 +257,7 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
             "Request method cannot be null"
         );
 
-        Map<String, ErrorLink> links = new HashMap<>();
-        links.put("self", ErrorLink.builder().href(requestUri).method(requestMethod).build());
-        links.put("documentation", ErrorLink.builder().href(ErrorCodeConstants.DOCUMENTATION_BASE_URL + subTypeCode).build());
+        Map<String, ErrorLink> links = ErrorLinkRegistry.links(subTypeCode, requestUri, requestMethod);
 
         // Build error details info
         ErrorDetailsValidationInfo detailsInfo = new ErrorDetailsValidationInfo(
@@ -232,7 +278,7 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
                 .subtype(subTypeDescription)
                 .details(detailsInfo)
                 .path(requestUri)
-                .documentationUrl(ErrorCodeConstants.DOCUMENTATION_BASE_URL + subTypeCode)
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(subTypeCode))
                 ._links(links)
                 .build();
 
@@ -262,13 +308,8 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
             "Request method cannot be null"
         );
 
-        // Build HATEOAS links
-        Map<String, ErrorLink> links = new HashMap<>();
-        links.put("self", ErrorLink.builder().href(requestUri).method(requestMethod).build());
-        links.put("documentation", ErrorLink.builder()
-                .href(ErrorCodeConstants.DOCUMENTATION_BASE_URL + ErrorCodeConstants.SUBTYPE_CODE_ENDPOINT_NOT_FOUND)
-                .build());
-        links.put("api-root", ErrorLink.builder().href("/").build());
+        // Build HATEOAS links: self + shared documentation and api-root links
+        Map<String, ErrorLink> links = ErrorLinkRegistry.links(ErrorCodeConstants.SUBTYPE_CODE_ENDPOINT_NOT_FOUND, requestUri, requestMethod);
 
         // Build error details for endpoint not found
         ErrorDetailsResourceInfo detailsInfo = ErrorDetailsResourceInfo.builder()
@@ -290,7 +331,7 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
                 .subtype(ErrorCodeConstants.SUBTYPE_ENDPOINT_NOT_FOUND)
                 .details(detailsInfo)
                 .path(requestUri)
-                .documentationUrl(ErrorCodeConstants.DOCUMENTATION_BASE_URL + ErrorCodeConstants.SUBTYPE_CODE_ENDPOINT_NOT_FOUND)
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(ErrorCodeConstants.SUBTYPE_CODE_ENDPOINT_NOT_FOUND))
                 .links(links)
                 .build();
 
@@ -0,0 +1,35 @@
+package com.quality.exception.idempotency;
+
+import com.quality.validation.ErrorCodeConstants;
+import com.quality.validation.HeaderConstants;
+import lombok.Getter;
+
+/**
+ * Exception raised when a request repeats the x-transaction-id of a request that is still being processed.
+ * The client should retry later to receive the stored response of the original request.
+ */
+@Getter
+public class RequestInProgressException extends RuntimeException {
+
+    private final String headerName = HeaderConstants.X_TRANSACTION_ID;
+    private final String transactionId;
+    private final String typeCode = ErrorCodeConstants.TYPE_CODE_IDEMPOTENCY;
+    private final String type = ErrorCodeConstants.TYPE_IDEMPOTENCY;
+    private final String subtypeCode = ErrorCodeConstants.SUBTYPE_CODE_REQUEST_IN_PROGRESS;
+    private final String subtype = ErrorCodeConstants.SUBTYPE_REQUEST_IN_PROGRESS;
+
+    /**
+     * @param transactionId the repeated x-transaction-id value
+     */
+    public RequestInProgressException(String transactionId) {
+        super(String.format("A request with %s '%s' is already in progress", HeaderConstants.X_TRANSACTION_ID, transactionId));
+        this.transactionId = transactionId;
+    }
+
+    /**
+     * Returns the expected client behavior for this error.
+     */
+    public String getCorrectFormat() {
+        return "Retry after the original request completes to receive its response, or use a new x-transaction-id for a new operation.";
+    }
+}
@@ -0,0 +1,35 @@
+package com.quality.exception.idempotency;
+
+import com.quality.validation.ErrorCodeConstants;
+import com.quality.validation.HeaderConstants;
+import lombok.Getter;
+
+/**
+ * Exception raised when a request reuses the x-transaction-id of a request with a different body.
+ * The stored response belongs to the original request, so it is neither replayed nor executed again.
+ */
+@Getter
+public class RequestMismatchException extends RuntimeException {
+
+    private final String headerName = HeaderConstants.X_TRANSACTION_ID;
+    private final String transactionId;
+    private final String typeCode = ErrorCodeConstants.TYPE_CODE_IDEMPOTENCY;
+    private final String type = ErrorCodeConstants.TYPE_IDEMPOTENCY;
+    private final String subtypeCode = ErrorCodeConstants.SUBTYPE_CODE_REQUEST_MISMATCH;
+    private final String subtype = ErrorCodeConstants.SUBTYPE_REQUEST_MISMATCH;
+
+    /**
+     * @param transactionId the reused x-transaction-id value
+     */
+    public RequestMismatchException(String transactionId) {
+        super(String.format("%s '%s' was already used with a different request body", HeaderConstants.X_TRANSACTION_ID, transactionId));
+        this.transactionId = transactionId;
+    }
+
+    /**
+     * Returns the expected client behavior for this error.
+     */
+    public String getCorrectFormat() {
+        return "Retry with the same body as the original request, or use a new x-transaction-id for a new operation.";
+    }
+}
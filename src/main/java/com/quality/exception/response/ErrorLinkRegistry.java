@@ -0,0 +1,135 @@
+package com.quality.exception.response;
+
+import com.quality.exception.resource.ResourceNotFoundException;
+import com.quality.validation.ErrorCodeConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the HATEOAS links attached to error responses.
+ * Everything except the request-dependent "self" link is built once per resource type and
+ * error subtype and then shared, so an error response only allocates its "self" link.
+ * Link sets are only memoized for known resource types and error codes, which keeps the
+ * registry bounded regardless of the paths clients probe.
+ * Applies Single Responsibility Principle (SRP) - only provides error links.
+ */
+public final class ErrorLinkRegistry {
+
+    /**
+     * Collection path of each resource type reported by the services.
+     */
+    private static final Map<String, String> COLLECTION_PATHS = Map.of(
+            "Client", "/clients",
+            "Account", "/accounts",
+            "AccountActivation", "/account-activations",
+            "TypeDocument", "/type-documents",
+            "Currency", "/currencies",
+            "TypeAccount", "/type-accounts"
+    );
+
+    private static final Map<String, String> DOCUMENTATION_URLS = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, ErrorLink>> STATIC_LINKS = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, ErrorLink>> RESOURCE_LINKS = new ConcurrentHashMap<>();
+
+    static {
+        STATIC_LINKS.put(ErrorCodeConstants.SUBTYPE_CODE_ENDPOINT_NOT_FOUND, Map.of(
+                "documentation", documentationLink(ErrorCodeConstants.SUBTYPE_CODE_ENDPOINT_NOT_FOUND),
+                "api-root", ErrorLink.builder().href("/").build()
+        ));
+    }
+
+    private ErrorLinkRegistry() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the documentation URL of an error subtype.
+     *
+     * @param subtypeCode the error subtype code (e.g., "RBV-005")
+     * @return the documentation URL
+     */
+    public static String documentationUrl(String subtypeCode) {
+        return DOCUMENTATION_URLS.computeIfAbsent(subtypeCode, code -> ErrorCodeConstants.DOCUMENTATION_BASE_URL + code);
+    }
+
+    /**
+     * Builds the links of an error response: "self" plus the shared links of the subtype
+     * ("documentation", and "api-root" for unknown endpoints).
+     *
+     * @param subtypeCode the error subtype code
+     * @param path the request URI
+     * @param method the request method
+     * @return the links of the response
+     */
+    public static Map<String, ErrorLink> links(String subtypeCode, String path, String method) {
+        Map<String, ErrorLink> shared = STATIC_LINKS.computeIfAbsent(subtypeCode,
+                code -> Map.of("documentation", documentationLink(code)));
+        return withSelf(shared, path, method);
+    }
+
+    /**
+     * Builds the links of a resource not found response: "self", the navigation links of
+     * the exception (collection, create, ...) and "documentation".
+     * Navigation links point to the collection of the missing resource type; unknown
+     * resource types fall back to the base path of the request and are not memoized.
+     *
+     * @param ex the resource not found exception
+     * @param path the request URI
+     * @param method the request method
+     * @return the links of the response
+     */
+    public static Map<String, ErrorLink> resourceLinks(ResourceNotFoundException ex, String path, String method) {
+        String collectionPath = COLLECTION_PATHS.get(ex.getResourceType());
+        Map<String, ErrorLink> shared = collectionPath != null
+                ? RESOURCE_LINKS.computeIfAbsent(ex.getResourceType() + ":" + ex.getSubtypeCode(),
+                        key -> resourceLinkSet(ex, collectionPath))
+                : resourceLinkSet(ex, extractBasePath(path));
+        return withSelf(shared, path, method);
+    }
+
+    private static Map<String, ErrorLink> resourceLinkSet(ResourceNotFoundException ex, String basePath) {
+        Map<String, ErrorLink> links = new HashMap<>(ex.getAdditionalLinks(basePath));
+        links.put("documentation", ErrorLink.builder().href(ex.getDocumentationUrl()).build());
+        return Map.copyOf(links);
+    }
+
+    private static ErrorLink documentationLink(String subtypeCode) {
+        return ErrorLink.builder().href(documentationUrl(subtypeCode)).build();
+    }
+
+    private static Map<String, ErrorLink> withSelf(Map<String, ErrorLink> shared, String path, String method) {
+        Map<String, ErrorLink> links = new HashMap<>(shared.size() + 2);
+        links.put("self", ErrorLink.builder().href(path).method(method).build());
+        links.putAll(shared);
+        return links;
+    }
+
+    /**
+     * Extracts the base path from a full path.
+     * Example: "/priorities/5" -> "/priorities"
+     */
+    private static String extractBasePath(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+
+        // Remove trailing slash
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        // Find last segment
+        int lastSlash = path.lastIndexOf('/');
+        if (lastSlash > 0) {
+            String lastSegment = path.substring(lastSlash + 1);
+            // If last segment is a number (ID), remove it
+            if (lastSegment.matches("\\d+")) {
+                return path.substring(0, lastSlash);
+            }
+        }
+
+        return path;
+    }
+}
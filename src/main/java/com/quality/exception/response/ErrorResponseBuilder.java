@@ -1,6 +1,8 @@
 package com.quality.exception.response;
 
 import com.quality.exception.header.HeaderException;
+import com.quality.exception.idempotency.RequestInProgressException;
+import com.quality.exception.idempotency.RequestMismatchException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.time.LocalDateTime;
@@ -28,16 +30,8 @@ public class ErrorResponseBuilder {
         String path = request.getRequestURI();
         String method = request.getMethod();
 
-        // Build HATEOAS links dynamically
-        Map<String, ErrorLink> links = Map.of(
-                "self", ErrorLink.builder()
-                        .href(path)
-                        .method(method)
-                        .build(),
-                "documentation", ErrorLink.builder()
-                        .href(ex.getDocumentationUrl())
-                        .build()
-        );
+        // Build HATEOAS links: self + shared documentation link
+        Map<String, ErrorLink> links = ErrorLinkRegistry.links(ex.getSubtypeCode(), path, method);
 
         // Build error details info
         ErrorDetailsInfo detailsInfo = ErrorDetailsInfo.builder()
@@ -58,7 +52,81 @@ public class ErrorResponseBuilder {
                 .subtype(ex.getSubtype())
                 .details(detailsInfo)
                 .path(path)
-                .documentationUrl(ex.getDocumentationUrl())
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(ex.getSubtypeCode()))
+                .links(links)
+                .build();
+
+        return new ErrorResponse(detail);
+    }
+
+    /**
+     * Builds the 409 ErrorResponse for a repeated x-transaction-id whose original request is still running.
+     *
+     * @param ex the request in progress exception
+     * @param request the HTTP request
+     * @return a fully constructed ErrorResponse
+     */
+    public static ErrorResponse build(RequestInProgressException ex, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+
+        Map<String, ErrorLink> links = ErrorLinkRegistry.links(ex.getSubtypeCode(), path, method);
+
+        ErrorDetailsInfo detailsInfo = ErrorDetailsInfo.builder()
+                .problematicField(ex.getHeaderName())
+                .invalidValue(ex.getTransactionId())
+                .correctFormat(ex.getCorrectFormat())
+                .build();
+
+        ErrorDetail detail = ErrorDetail.builder()
+                .timestamp(LocalDateTime.now())
+                .status(409)
+                .error("Conflict")
+                .message(ex.getMessage())
+                .typeCode(ex.getTypeCode())
+                .type(ex.getType())
+                .subtypeCode(ex.getSubtypeCode())
+                .subtype(ex.getSubtype())
+                .details(detailsInfo)
+                .path(path)
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(ex.getSubtypeCode()))
+                .links(links)
+                .build();
+
+        return new ErrorResponse(detail);
+    }
+
+    /**
+     * Builds the 422 ErrorResponse for an x-transaction-id reused with a different request body.
+     *
+     * @param ex the request mismatch exception
+     * @param request the HTTP request
+     * @return a fully constructed ErrorResponse
+     */
+    public static ErrorResponse build(RequestMismatchException ex, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+
+        Map<String, ErrorLink> links = ErrorLinkRegistry.links(ex.getSubtypeCode(), path, method);
+
+        ErrorDetailsInfo detailsInfo = ErrorDetailsInfo.builder()
+                .problematicField(ex.getHeaderName())
+                .invalidValue(ex.getTransactionId())
+                .correctFormat(ex.getCorrectFormat())
+                .build();
+
+        ErrorDetail detail = ErrorDetail.builder()
+                .timestamp(LocalDateTime.now())
+                .status(422)
+                .error("Unprocessable Entity")
+                .message(ex.getMessage())
+                .typeCode(ex.getTypeCode())
+                .type(ex.getType())
+                .subtypeCode(ex.getSubtypeCode())
+                .subtype(ex.getSubtype())
+                .details(detailsInfo)
+                .path(path)
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(ex.getSubtypeCode()))
                 .links(links)
                 .build();
 
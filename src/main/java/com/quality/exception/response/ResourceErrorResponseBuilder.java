@@ -4,7 +4,6 @@ import com.quality.exception.resource.ResourceNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -29,25 +28,8 @@ public class ResourceErrorResponseBuilder {
         String path = request.getRequestURI();
         String method = request.getMethod();
 
-        // Extract base path for the resource (e.g., "/priorities/5" -> "/priorities")
-        String basePath = extractBasePath(path);
-
-        // Build HATEOAS links
-        Map<String, ErrorLink> links = new HashMap<>();
-        
-        // Self link
-        links.put("self", ErrorLink.builder()
-                .href(path)
-                .method(method)
-                .build());
-        
-        // Add additional links from the exception (collection, create, etc.)
-        links.putAll(ex.getAdditionalLinks(basePath));
-        
-        // Documentation link
-        links.put("documentation", ErrorLink.builder()
-                .href(ex.getDocumentationUrl())
-                .build());
+        // Build HATEOAS links: self + links shared by resource type and error code
+        Map<String, ErrorLink> links = ErrorLinkRegistry.resourceLinks(ex, path, method);
 
         // Build error details info for resources
         ErrorDetailsResourceInfo detailsInfo = ErrorDetailsResourceInfo.builder()
@@ -69,37 +51,10 @@ public class ResourceErrorResponseBuilder {
                 .subtype(ex.getSubtype())
                 .details(detailsInfo)
                 .path(path)
-                .documentationUrl(ex.getDocumentationUrl())
+                .documentationUrl(ErrorLinkRegistry.documentationUrl(ex.getSubtypeCode()))
                 .links(links)
                 .build();
 
         return new ErrorResponse(detail);
     }
-
-    /**
-     * Extracts the base path from a full path.
-     * Example: "/priorities/5" -> "/priorities"
-     */
-    private static String extractBasePath(String path) {
-        if (path == null || path.isEmpty()) {
-            return "/";
-        }
-        
-        // Remove trailing slash
-        if (path.endsWith("/")) {
-            path = path.substring(0, path.length() - 1);
-        }
-        
-        // Find last segment
-        int lastSlash = path.lastIndexOf('/');
-        if (lastSlash > 0) {
-            String lastSegment = path.substring(lastSlash + 1);
-            // If last segment is a number (ID), remove it
-            if (lastSegment.matches("\\d+")) {
-                return path.substring(0, lastSlash);
-            }
-        }
-        
-        return path;
-    }
 }
@@ -0,0 +1,32 @@
+package com.quality.exception.validation;
+
+import com.quality.validation.ErrorCodeConstants;
+import lombok.Getter;
+
+/**
+ * Exception thrown when a field or parameter value has an invalid format or is out of range.
+ * This is a runtime exception for input validation that cannot be expressed with bean validation.
+ */
+@Getter
+public class InvalidFieldFormatException extends RuntimeException {
+
+    private final String fieldName;
+    private final Object fieldValue;
+    private final String constraint;
+    private final String typeCode = ErrorCodeConstants.TYPE_CODE_VALIDATION;
+    private final String subtypeCode = ErrorCodeConstants.SUBTYPE_CODE_INVALID_FIELD_FORMAT;
+
+    /**
+     * Constructor for InvalidFieldFormatException.
+     *
+     * @param fieldName the name of the invalid field or parameter
+     * @param fieldValue the rejected value
+     * @param constraint description of the expected format
+     */
+    public InvalidFieldFormatException(String fieldName, Object fieldValue, String constraint) {
+        super(String.format("Field '%s' has an invalid format", fieldName));
+        this.fieldName = fieldName;
+        this.fieldValue = fieldValue;
+        this.constraint = constraint;
+    }
+}
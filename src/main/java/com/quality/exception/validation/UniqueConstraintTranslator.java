@@ -0,0 +1,112 @@
+package com.quality.exception.validation;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates PostgreSQL unique violations (SQLSTATE 23505) into DuplicateFieldException.
+ * The field is resolved from the constraint name declared by the V1 migration; databases baselined
+ * from a Hibernate-generated schema have generated constraint names, so the column is also read from
+ * the error detail ("Key (email)=(...) already exists").
+ * Applies Single Responsibility Principle (SRP) - only translates unique constraint violations.
+ */
+public final class UniqueConstraintTranslator {
+
+    static final String UNIQUE_VIOLATION = "23505";
+
+    /**
+     * API field of each unique constraint.
+     */
+    private static final Map<String, String> CONSTRAINT_FIELDS = Map.of(
+            "uk_client_email", "email",
+            "uk_client_document_number", "documentNumber",
+            "uk_type_document_code", "code",
+            "uk_currency_code", "code",
+            "uk_type_account_code", "code",
+            "uk_account_account_number", "accountNumber"
+    );
+
+    private static final Pattern DETAIL = Pattern.compile("Key \\(([^)]+)\\)=\\((.*)\\) already exists");
+
+    private UniqueConstraintTranslator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Translates a unique violation.
+     *
+     * @param ex the exception raised by the write (must not be null)
+     * @param uniqueValues submitted values by API field name, preferred over the value in the error detail
+     * @return the duplicate field exception, or empty when the exception is not a unique violation
+     *         or its field cannot be determined
+     */
+    @NonNull
+    public static Optional<DuplicateFieldException> translate(
+            @NonNull DataIntegrityViolationException ex,
+            @NonNull Map<String, ?> uniqueValues
+    ) {
+        SQLException sqlException = null;
+        String constraintName = null;
+        for (Throwable cause = ex; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraintName = violation.getConstraintName();
+            }
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                sqlException = sql;
+                break;
+            }
+        }
+        if (sqlException == null) {
+            return Optional.empty();
+        }
+
+        Matcher detail = DETAIL.matcher(String.valueOf(sqlException.getMessage()));
+        boolean hasDetail = detail.find();
+        String fieldName = fieldName(constraintName, hasDetail ? detail.group(1) : null);
+        if (fieldName == null) {
+            return Optional.empty();
+        }
+
+        Object value = uniqueValues.containsKey(fieldName)
+                ? uniqueValues.get(fieldName)
+                : (hasDetail ? detail.group(2) : null);
+        return Optional.of(new DuplicateFieldException(fieldName, value));
+    }
+
+    @Nullable
+    private static String fieldName(@Nullable String constraintName, @Nullable String column) {
+        if (constraintName != null) {
+            String field = CONSTRAINT_FIELDS.get(constraintName.toLowerCase());
+            if (field != null) {
+                return field;
+            }
+        }
+        // Composite keys cannot be reported as a single field
+        if (column == null || column.contains(",")) {
+            return null;
+        }
+        return toCamelCase(column.trim());
+    }
+
+    private static String toCamelCase(String column) {
+        StringBuilder field = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                field.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return field.toString();
+    }
+}
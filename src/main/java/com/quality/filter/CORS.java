@@ -39,7 +39,8 @@ public class CORS implements Filter {
         response.setHeader("Access-Control-Max-Age", "3600");
         response.setHeader("Access-Control-Allow-Headers", 
             "x-requested-with, authorization, Content-Type, Authorization, credential, X-XSRF-TOKEN, " +
-            "x-correlation-id, x-request-id, x-transaction-id");
+            "x-correlation-id, x-request-id, x-transaction-id, If-None-Match");
+        response.setHeader("Access-Control-Expose-Headers", "ETag, Location");
 
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
             response.setStatus(HttpServletResponse.SC_OK);
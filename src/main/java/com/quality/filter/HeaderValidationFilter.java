@@ -1,12 +1,8 @@
 package com.quality.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.quality.exception.header.HeaderException;
-import com.quality.exception.response.ErrorDetail;
-import com.quality.exception.response.ErrorDetailsInfo;
-import com.quality.exception.response.ErrorLink;
-import com.quality.exception.response.ErrorResponse;
+import com.quality.exception.response.ErrorResponseBuilder;
+import com.quality.serialization.ErrorResponseWriter;
 import com.quality.validation.HeaderConstants;
 import com.quality.validation.HeaderValidator;
 import jakarta.servlet.Filter;
@@ -18,12 +14,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.Map;
 
 /**
  * Filter to validate required HTTP headers on all requests.
@@ -34,11 +28,10 @@ import java.util.Map;
 @Order(Ordered.HIGHEST_PRECEDENCE + 1)
 public class HeaderValidationFilter implements Filter {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
-    public HeaderValidationFilter() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    public HeaderValidationFilter(ErrorResponseWriter errorResponseWriter) {
+        this.errorResponseWriter = errorResponseWriter;
     }
 
     @Override
@@ -68,7 +61,7 @@ public class HeaderValidationFilter implements Filter {
             // Continue the filter chain if all validations pass
             chain.doFilter(req, res);
         } catch (HeaderException ex) {
-            // Handle header validation errors and return structured JSON response
+            // Handle header validation errors and return a structured error response
             buildErrorResponse(ex, request, response);
         }
     }
@@ -85,57 +78,11 @@ public class HeaderValidationFilter implements Filter {
     }
 
     /**
-     * Builds and writes the error response as JSON.
+     * Builds and writes the error response in the negotiated representation (JSON or CBOR).
+     * Uses the same builder as ResponseExceptionHandler so filter and handler errors are identical.
      */
-    private void buildErrorResponse(HeaderException ex, HttpServletRequest request, HttpServletResponse response) 
+    private void buildErrorResponse(HeaderException ex, HttpServletRequest request, HttpServletResponse response)
             throws IOException {
-        
-        String path = request.getRequestURI();
-        String method = request.getMethod();
-
-        // Build HATEOAS links
-        Map<String, ErrorLink> links = Map.of(
-                "self", ErrorLink.builder()
-                        .href(path)
-                        .method(method)
-                        .build(),
-                "documentation", ErrorLink.builder()
-                        .href(ex.getDocumentationUrl())
-                        .build()
-        );
-
-        // Build error details info
-        ErrorDetailsInfo detailsInfo = ErrorDetailsInfo.builder()
-                .problematicField(ex.getHeaderName())
-                .invalidValue(ex.getInvalidValue())
-                .correctFormat(ex.getCorrectFormat())
-                .build();
-
-        // Build complete error detail
-        ErrorDetail detail = ErrorDetail.builder()
-                .timestamp(LocalDateTime.now())
-                .status(400)
-                .error("Bad Request")
-                .message(ex.getMessage())
-                .typeCode(ex.getTypeCode())
-                .type(ex.getType())
-                .subtypeCode(ex.getSubtypeCode())
-                .subtype(ex.getSubtype())
-                .details(detailsInfo)
-                .path(path)
-                .documentationUrl(ex.getDocumentationUrl())
-                .links(links)
-                .build();
-
-        ErrorResponse errorResponse = new ErrorResponse(detail);
-
-        // Set response properties
-        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        // Write JSON response
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-        response.getWriter().flush();
+        errorResponseWriter.write(request, response, HttpStatus.BAD_REQUEST, ErrorResponseBuilder.build(ex, request));
     }
 }
@@ -0,0 +1,143 @@
+package com.quality.filter;
+
+import com.quality.exception.idempotency.RequestInProgressException;
+import com.quality.exception.idempotency.RequestMismatchException;
+import com.quality.exception.response.ErrorResponseBuilder;
+import com.quality.serialization.ErrorResponseWriter;
+import com.quality.service.IIdempotencyStore;
+import com.quality.service.IdempotencyClaim;
+import com.quality.service.IdempotentResponse;
+import com.quality.validation.HeaderConstants;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Makes the create endpoints idempotent on the x-transaction-id header.
+ * The first POST with a given transaction id runs normally and its response is stored; retries with
+ * the same transaction id get the stored response replayed without reaching the controller, or a 409
+ * while the first request is still running. A retry whose body differs from the first request gets
+ * a 422: it is a different operation, and replaying the first response would hide that. Only successful (2xx/3xx) responses are stored: client
+ * errors (4xx) and server errors (5xx) release the key, so a corrected or repeated request executes again.
+ * Runs after HeaderValidationFilter, so the transaction id is always a valid UUID here.
+ * Follows Single Responsibility Principle (SRP) - only handles request idempotency.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyFilter implements Filter {
+
+    /**
+     * Set on replayed responses so clients and logs can tell a replay from a fresh execution.
+     */
+    public static final String REPLAYED_HEADER = "x-idempotent-replayed";
+
+    private final IIdempotencyStore store;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Set<String> paths;
+
+    public IdempotencyFilter(
+            IIdempotencyStore store,
+            ErrorResponseWriter errorResponseWriter,
+            @Value("${idempotency.paths:/accounts,/clients}") String[] paths
+    ) {
+        this.store = store;
+        this.errorResponseWriter = errorResponseWriter;
+        this.paths = Set.of(paths);
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        String transactionId = request.getHeader(HeaderConstants.X_TRANSACTION_ID);
+
+        if (!HttpMethod.POST.matches(request.getMethod()) || !paths.contains(request.getRequestURI())
+                || transactionId == null) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        // Scoped to the endpoint, so the same transaction id on another endpoint is a different operation
+        String key = transactionId.toLowerCase() + " " + request.getMethod() + " " + request.getRequestURI();
+        CachedBodyRequestWrapper cachedRequest = new CachedBodyRequestWrapper(request);
+        IdempotencyClaim claim = store.claim(key, sha256(cachedRequest.getBody()));
+
+        switch (claim.state()) {
+            case COMPLETED -> replay(claim.response(), response);
+            case IN_PROGRESS -> errorResponseWriter.write(request, response, HttpStatus.CONFLICT,
+                    ErrorResponseBuilder.build(new RequestInProgressException(transactionId), request));
+            case MISMATCH -> errorResponseWriter.write(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    ErrorResponseBuilder.build(new RequestMismatchException(transactionId), request));
+            case CLAIMED -> execute(key, cachedRequest, response, chain);
+        }
+    }
+
+    private void execute(String key, HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            chain.doFilter(request, wrapper);
+            // A 400 or 409 is not the outcome of the operation: the client may fix the request and retry with the same id
+            if (wrapper.getStatus() < HttpStatus.BAD_REQUEST.value()) {
+                store.complete(key, new IdempotentResponse(
+                        wrapper.getStatus(),
+                        wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.LOCATION),
+                        wrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        if (stored.body().length > 0) {
+            response.getOutputStream().write(stored.body());
+        }
+    }
+}
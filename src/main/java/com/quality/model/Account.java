@@ -58,8 +58,17 @@ public class Account {
     @Column
     private LocalDateTime activatedDate;
     
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+    
     @PrePersist
     protected void onCreate() {
         createdDate = LocalDateTime.now();
+        updatedAt = createdDate;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
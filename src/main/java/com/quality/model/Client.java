@@ -7,6 +7,8 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDateTime;
+
 /**
  * Client entity representing customer information.
  * Stores personal data and identification details for clients.
@@ -48,4 +50,13 @@ public class Client {
     @NonNull
     @Column(nullable = false, length = 20)
     private String phone;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+    
+    @PrePersist
+    @PreUpdate
+    protected void onChange() {
+        updatedAt = LocalDateTime.now();
+    }
 }
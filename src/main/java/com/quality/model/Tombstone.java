@@ -0,0 +1,44 @@
+package com.quality.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone entity recording the deletion of a client or account.
+ * Lets the change feeds report deletes after the row itself is gone; purged after the retention period.
+ * Fields marked as nullable=false are also annotated with @NonNull for compile-time safety.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class Tombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long idTombstone;
+
+    @NonNull
+    @Column(nullable = false, length = 20)
+    private String resourceType;
+
+    @NonNull
+    @Column(nullable = false)
+    private Integer resourceId;
+
+    @NonNull
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public Tombstone(@NonNull String resourceType, @NonNull Integer resourceId, @NonNull LocalDateTime deletedAt) {
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -1,6 +1,20 @@
 package com.quality.repository;
 
 import com.quality.model.AccountActivation;
+import com.quality.model.ActivationStatus;
+import com.quality.repository.projection.AccountActivationSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for AccountActivation entity.
@@ -8,4 +22,133 @@ import com.quality.model.AccountActivation;
  * Follows Interface Segregation Principle (ISP).
  */
 public interface IAccountActivationRepository extends IGenericRepository<AccountActivation, Integer> {
+
+    /**
+     * Streams all activation attempts by ID with their account and provided type document, read-only.
+     * The associations are eager, so they are fetched in the same query instead of one select per row.
+     * Rows are fetched STREAM_FETCH_SIZE at a time; must be consumed inside a transaction and closed.
+     * @return the attempts (never null)
+     */
+    @NonNull
+    @Query("SELECT a FROM AccountActivation a JOIN FETCH a.account acc JOIN FETCH acc.client c " +
+           "JOIN FETCH c.typeDocument JOIN FETCH acc.typeAccount JOIN FETCH acc.currency " +
+           "JOIN FETCH a.typeDocumentProvided ORDER BY a.idAccountActivation")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AccountActivation> streamAllWithDetails();
+
+    /**
+     * Projection, keyset bounds and order shared by the search queries.
+     * Each filter combination has its own query, so the planner only sees the predicates in use
+     * instead of catch-all "(:param IS NULL OR ...)" conditions that defeat index selection.
+     */
+    String SEARCH_SELECT = "SELECT a.idAccountActivation AS idAccountActivation, a.account.idAccount AS idAccount, " +
+           "a.activationStatus AS activationStatus, a.errorReason AS errorReason, a.attemptDate AS attemptDate " +
+           "FROM AccountActivation a " +
+           "WHERE a.attemptDate >= :from AND a.attemptDate <= :cursorDate " +
+           "AND (a.attemptDate < :cursorDate OR a.idAccountActivation < :cursorId) ";
+    String SEARCH_ORDER = "ORDER BY a.attemptDate DESC, a.idAccountActivation DESC";
+
+    /**
+     * Finds activation attempts in a time range, newest first, using keyset pagination.
+     * Returns the rows strictly after the (cursorDate, cursorId) position in
+     * (attemptDate DESC, idAccountActivation DESC) order; pass (to, 0) for the first page.
+     * The attemptDate bounds allow the database to prune monthly partitions.
+     * Dispatches to the query that matches the given filters.
+     *
+     * @param from inclusive lower bound of attemptDate (must not be null)
+     * @param cursorDate attemptDate of the last row already returned (must not be null)
+     * @param cursorId id of the last row already returned (must not be null)
+     * @param idAccount optional account filter (null for all accounts)
+     * @param status optional status filter (null for all statuses)
+     * @param pageable page size; only the first page is requested, no count query is issued
+     * @return the next rows (never null, may be empty)
+     */
+    @NonNull
+    default List<AccountActivationSummary> search(
+            @NonNull LocalDateTime from,
+            @NonNull LocalDateTime cursorDate,
+            @NonNull Integer cursorId,
+            @Nullable Integer idAccount,
+            @Nullable ActivationStatus status,
+            @NonNull Pageable pageable
+    ) {
+        if (idAccount != null && status != null) {
+            return searchByAccountAndStatus(from, cursorDate, cursorId, idAccount, status, pageable);
+        }
+        if (idAccount != null) {
+            return searchByAccount(from, cursorDate, cursorId, idAccount, pageable);
+        }
+        if (status != null) {
+            return searchByStatus(from, cursorDate, cursorId, status, pageable);
+        }
+        return searchAll(from, cursorDate, cursorId, pageable);
+    }
+
+    /**
+     * Unfiltered variant of {@link #search}.
+     */
+    @NonNull
+    @Query(SEARCH_SELECT + SEARCH_ORDER)
+    List<AccountActivationSummary> searchAll(
+            @NonNull @Param("from") LocalDateTime from,
+            @NonNull @Param("cursorDate") LocalDateTime cursorDate,
+            @NonNull @Param("cursorId") Integer cursorId,
+            @NonNull Pageable pageable
+    );
+
+    /**
+     * Variant of {@link #search} filtered by account.
+     */
+    @NonNull
+    @Query(SEARCH_SELECT + "AND a.account.idAccount = :idAccount " + SEARCH_ORDER)
+    List<AccountActivationSummary> searchByAccount(
+            @NonNull @Param("from") LocalDateTime from,
+            @NonNull @Param("cursorDate") LocalDateTime cursorDate,
+            @NonNull @Param("cursorId") Integer cursorId,
+            @NonNull @Param("idAccount") Integer idAccount,
+            @NonNull Pageable pageable
+    );
+
+    /**
+     * Variant of {@link #search} filtered by status.
+     */
+    @NonNull
+    @Query(SEARCH_SELECT + "AND a.activationStatus = :status " + SEARCH_ORDER)
+    List<AccountActivationSummary> searchByStatus(
+            @NonNull @Param("from") LocalDateTime from,
+            @NonNull @Param("cursorDate") LocalDateTime cursorDate,
+            @NonNull @Param("cursorId") Integer cursorId,
+            @NonNull @Param("status") ActivationStatus status,
+            @NonNull Pageable pageable
+    );
+
+    /**
+     * Variant of {@link #search} filtered by account and status.
+     */
+    @NonNull
+    @Query(SEARCH_SELECT + "AND a.account.idAccount = :idAccount AND a.activationStatus = :status " + SEARCH_ORDER)
+    List<AccountActivationSummary> searchByAccountAndStatus(
+            @NonNull @Param("from") LocalDateTime from,
+            @NonNull @Param("cursorDate") LocalDateTime cursorDate,
+            @NonNull @Param("cursorId") Integer cursorId,
+            @NonNull @Param("idAccount") Integer idAccount,
+            @NonNull @Param("status") ActivationStatus status,
+            @NonNull Pageable pageable
+    );
+
+    /**
+     * Finds the activation attempts made since the given date, in no particular order.
+     * Used to rebuild the in-memory activation counters.
+     *
+     * @param since inclusive lower bound of attemptDate (must not be null)
+     * @return the attempts (never null, may be empty)
+     */
+    @NonNull
+    @Query("SELECT a.idAccountActivation AS idAccountActivation, a.account.idAccount AS idAccount, " +
+           "a.activationStatus AS activationStatus, a.errorReason AS errorReason, a.attemptDate AS attemptDate " +
+           "FROM AccountActivation a WHERE a.attemptDate >= :since")
+    List<AccountActivationSummary> findSummariesSince(@NonNull @Param("since") LocalDateTime since);
 }
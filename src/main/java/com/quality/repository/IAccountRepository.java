@@ -1,11 +1,23 @@
 package com.quality.repository;
 
 import com.quality.model.Account;
+import com.quality.model.AccountStatus;
+import com.quality.repository.projection.AccountActivationCheck;
+import com.quality.repository.projection.ChangeRow;
+import com.quality.repository.projection.ClientAccountSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Account entity.
@@ -23,4 +35,147 @@ public interface IAccountRepository extends IGenericRepository<Account, Integer>
     @NonNull
     @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
     Optional<Account> findByAccountNumber(@NonNull @Param("accountNumber") String accountNumber);
+
+    /**
+     * Streams all accounts by ID with their client, type account and currency, read-only.
+     * Rows are fetched STREAM_FETCH_SIZE at a time; must be consumed inside a transaction and closed.
+     * @return the accounts (never null)
+     */
+    @NonNull
+    @Query("SELECT a FROM Account a JOIN FETCH a.client c JOIN FETCH c.typeDocument " +
+           "JOIN FETCH a.typeAccount JOIN FETCH a.currency ORDER BY a.idAccount")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Account> streamAllWithDetails();
+
+    /**
+     * Finds the accounts with the given IDs in one query, fetching the client, type account and currency.
+     * @param ids the account IDs (must not be null or empty)
+     * @return the found accounts, in no particular order (never null)
+     */
+    @NonNull
+    @Query("SELECT a FROM Account a JOIN FETCH a.client c JOIN FETCH c.typeDocument " +
+           "JOIN FETCH a.typeAccount JOIN FETCH a.currency WHERE a.idAccount IN :ids")
+    List<Account> findAllWithDetailsByIdAccountIn(@NonNull @Param("ids") Collection<Integer> ids);
+
+    /**
+     * Finds the accounts with the given account numbers in one query, fetching the client, type account and currency.
+     * @param accountNumbers the account numbers (must not be null or empty)
+     * @return the found accounts, in no particular order (never null)
+     */
+    @NonNull
+    @Query("SELECT a FROM Account a JOIN FETCH a.client c JOIN FETCH c.typeDocument " +
+           "JOIN FETCH a.typeAccount JOIN FETCH a.currency WHERE a.accountNumber IN :accountNumbers")
+    List<Account> findAllWithDetailsByAccountNumberIn(@NonNull @Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Lists the accounts of a client with their last activation attempt, in one query.
+     * Served by ix_account_id_client; the last attempt is read per account from
+     * ix_account_activation_id_account_attempt_date (LATERAL ... LIMIT 1), so the activation
+     * history is never scanned. Catalog tables are not joined: only their IDs are returned.
+     * @param idClient the client ID (must not be null)
+     * @return the accounts of the client ordered by ID (never null)
+     */
+    @NonNull
+    @Query(value = "SELECT a.id_account AS \"idAccount\", a.account_number AS \"accountNumber\", " +
+           "a.id_type_account AS \"idTypeAccount\", a.id_currency AS \"idCurrency\", a.balance AS \"balance\", " +
+           "a.status AS \"status\", a.created_date AS \"createdDate\", a.activated_date AS \"activatedDate\", " +
+           "la.activation_status AS \"lastActivationStatus\", la.attempt_date AS \"lastAttemptDate\" " +
+           "FROM account a " +
+           "LEFT JOIN LATERAL (SELECT aa.activation_status, aa.attempt_date FROM account_activation aa " +
+           "WHERE aa.id_account = a.id_account " +
+           "ORDER BY aa.attempt_date DESC, aa.id_account_activation DESC LIMIT 1) la ON true " +
+           "WHERE a.id_client = :idClient " +
+           "ORDER BY a.id_account",
+           nativeQuery = true)
+    List<ClientAccountSummary> findSummariesByIdClient(@NonNull @Param("idClient") Integer idClient);
+
+    /**
+     * Verifies activation data in one round trip: finds the account by number and compares the
+     * provided type document and document number with its owner's in the database.
+     * @param accountNumber the account number (must not be null)
+     * @param idTypeDocument the provided type document ID (must not be null)
+     * @param documentNumber the provided document number (must not be null)
+     * @return the check result, or empty if no account has that number (never null)
+     */
+    @NonNull
+    @Query("SELECT a.idAccount AS idAccount, a.status AS status, " +
+           "c.typeDocument.idTypeDocument AS ownerTypeDocumentId, " +
+           "CASE WHEN c.typeDocument.idTypeDocument = :idTypeDocument THEN true ELSE false END AS typeDocumentMatches, " +
+           "CASE WHEN c.documentNumber = :documentNumber THEN true ELSE false END AS documentNumberMatches, " +
+           "CASE WHEN EXISTS (SELECT t.idTypeDocument FROM TypeDocument t WHERE t.idTypeDocument = :idTypeDocument) " +
+           "THEN true ELSE false END AS typeDocumentExists " +
+           "FROM Account a JOIN a.client c " +
+           "WHERE a.accountNumber = :accountNumber")
+    Optional<AccountActivationCheck> findActivationCheck(
+            @NonNull @Param("accountNumber") String accountNumber,
+            @NonNull @Param("idTypeDocument") Integer idTypeDocument,
+            @NonNull @Param("documentNumber") String documentNumber
+    );
+
+    /**
+     * Changes the status of an account only if it currently has the expected status (compare-and-set),
+     * in a single UPDATE. The affected row count tells whether this call made the transition.
+     * The persistence context is cleared afterwards: accounts loaded before are detached, so their
+     * stale state is never flushed over the new one.
+     * Bulk updates skip the entity callbacks, so updatedAt is set here explicitly.
+     * @param idAccount the account ID (must not be null)
+     * @param expected the status the account must have (must not be null)
+     * @param status the new status (must not be null)
+     * @param activatedDate the activation date to store
+     * @param updatedAt the modification time to store (must not be null)
+     * @return 1 if the account was updated, 0 if it does not exist or its status is not the expected one
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET a.status = :status, a.activatedDate = :activatedDate, a.updatedAt = :updatedAt " +
+           "WHERE a.idAccount = :idAccount AND a.status = :expected")
+    int compareAndSetStatus(
+            @NonNull @Param("idAccount") Integer idAccount,
+            @NonNull @Param("expected") AccountStatus expected,
+            @NonNull @Param("status") AccountStatus status,
+            @Param("activatedDate") LocalDateTime activatedDate,
+            @NonNull @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * Activates an account only if it is INACTIVE.
+     * @param idAccount the account ID (must not be null)
+     * @param activatedDate the activation date (must not be null)
+     * @return 1 if the account was activated, 0 otherwise
+     */
+    default int activateIfInactive(@NonNull Integer idAccount, @NonNull LocalDateTime activatedDate) {
+        return compareAndSetStatus(idAccount, AccountStatus.INACTIVE, AccountStatus.ACTIVE, activatedDate, LocalDateTime.now());
+    }
+
+    /**
+     * Reads the change feed of accounts: modified rows and tombstones strictly after the
+     * (sinceDate, sinceId) position and up to the upper bound, in (changedAt, id) order.
+     * Each branch is a keyset scan of its own index (ix_account_updated_at_id_account and
+     * ix_tombstone_resource_type_deleted_at) and stops after the limit.
+     * IDs are never reused, so (changedAt, id) identifies an entry across both branches.
+     * @param sinceDate changedAt of the last entry already returned (must not be null)
+     * @param sinceId id of the last entry already returned (must not be null)
+     * @param upper inclusive upper bound of changedAt (must not be null)
+     * @param limit maximum number of entries
+     * @return the next entries (never null, may be empty)
+     */
+    @NonNull
+    @Query(value = "SELECT x.\"id\", x.\"changedAt\", x.\"deleted\" FROM (" +
+           "(SELECT a.id_account AS \"id\", a.updated_at AS \"changedAt\", false AS \"deleted\" FROM account a " +
+           "WHERE (a.updated_at, a.id_account) > (:sinceDate, :sinceId) AND a.updated_at <= :upper " +
+           "ORDER BY a.updated_at, a.id_account LIMIT :limit) " +
+           "UNION ALL " +
+           "(SELECT t.resource_id, t.deleted_at, true FROM tombstone t " +
+           "WHERE t.resource_type = 'Account' AND (t.deleted_at, t.resource_id) > (:sinceDate, :sinceId) AND t.deleted_at <= :upper " +
+           "ORDER BY t.deleted_at, t.resource_id LIMIT :limit)" +
+           ") x ORDER BY x.\"changedAt\", x.\"id\" LIMIT :limit",
+           nativeQuery = true)
+    List<ChangeRow> findChanges(
+            @NonNull @Param("sinceDate") LocalDateTime sinceDate,
+            @NonNull @Param("sinceId") Integer sinceId,
+            @NonNull @Param("upper") LocalDateTime upper,
+            @Param("limit") int limit
+    );
 }
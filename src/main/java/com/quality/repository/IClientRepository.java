@@ -1,8 +1,19 @@
 package com.quality.repository;
 
 import com.quality.model.Client;
+import com.quality.repository.projection.ChangeRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface IClientRepository extends IGenericRepository<Client, Integer> {
     
     /**
@@ -36,4 +47,56 @@ public interface IClientRepository extends IGenericRepository<Client, Integer> {
      * @return true if exists, false otherwise
      */
     boolean existsByDocumentNumberAndIdClientNot(@NonNull String documentNumber, @NonNull Integer id);
+
+    /**
+     * Streams all clients by ID with their type document, read-only.
+     * Rows are fetched STREAM_FETCH_SIZE at a time; must be consumed inside a transaction and closed.
+     * @return the clients (never null)
+     */
+    @NonNull
+    @Query("SELECT c FROM Client c JOIN FETCH c.typeDocument ORDER BY c.idClient")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Client> streamAllWithDetails();
+
+    /**
+     * Finds the clients with the given IDs in one query, fetching their type document.
+     * @param ids the client IDs (must not be null or empty)
+     * @return the found clients, in no particular order (never null)
+     */
+    @NonNull
+    @Query("SELECT c FROM Client c JOIN FETCH c.typeDocument WHERE c.idClient IN :ids")
+    List<Client> findAllWithDetailsByIdClientIn(@NonNull @Param("ids") Collection<Integer> ids);
+
+    /**
+     * Reads the change feed of clients: modified rows and tombstones strictly after the
+     * (sinceDate, sinceId) position and up to the upper bound, in (changedAt, id) order.
+     * Each branch is a keyset scan of its own index (ix_client_updated_at_id_client and
+     * ix_tombstone_resource_type_deleted_at) and stops after the limit.
+     * IDs are never reused, so (changedAt, id) identifies an entry across both branches.
+     * @param sinceDate changedAt of the last entry already returned (must not be null)
+     * @param sinceId id of the last entry already returned (must not be null)
+     * @param upper inclusive upper bound of changedAt (must not be null)
+     * @param limit maximum number of entries
+     * @return the next entries (never null, may be empty)
+     */
+    @NonNull
+    @Query(value = "SELECT x.\"id\", x.\"changedAt\", x.\"deleted\" FROM (" +
+           "(SELECT c.id_client AS \"id\", c.updated_at AS \"changedAt\", false AS \"deleted\" FROM client c " +
+           "WHERE (c.updated_at, c.id_client) > (:sinceDate, :sinceId) AND c.updated_at <= :upper " +
+           "ORDER BY c.updated_at, c.id_client LIMIT :limit) " +
+           "UNION ALL " +
+           "(SELECT t.resource_id, t.deleted_at, true FROM tombstone t " +
+           "WHERE t.resource_type = 'Client' AND (t.deleted_at, t.resource_id) > (:sinceDate, :sinceId) AND t.deleted_at <= :upper " +
+           "ORDER BY t.deleted_at, t.resource_id LIMIT :limit)" +
+           ") x ORDER BY x.\"changedAt\", x.\"id\" LIMIT :limit",
+           nativeQuery = true)
+    List<ChangeRow> findChanges(
+            @NonNull @Param("sinceDate") LocalDateTime sinceDate,
+            @NonNull @Param("sinceId") Integer sinceId,
+            @NonNull @Param("upper") LocalDateTime upper,
+            @Param("limit") int limit
+    );
 }
@@ -17,6 +17,17 @@ import java.util.Optional;
  */
 @NoRepositoryBean
 public interface IGenericRepository<T, ID> extends JpaRepository<T, ID> {
+
+    /**
+     * Rows fetched per round trip by the streaming queries, and entities kept in the persistence
+     * context while a stream is consumed (see OperationsImplement.forEach).
+     */
+    int STREAM_CHUNK_SIZE = 500;
+
+    /**
+     * STREAM_CHUNK_SIZE as a query hint value.
+     */
+    String STREAM_FETCH_SIZE = "" + STREAM_CHUNK_SIZE;
     
     /**
      * Saves a given entity.
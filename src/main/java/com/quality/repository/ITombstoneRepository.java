@@ -0,0 +1,26 @@
+package com.quality.repository;
+
+import com.quality.model.Tombstone;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for Tombstone entity.
+ * Extends IGenericRepository to inherit standard CRUD operations.
+ * Follows Interface Segregation Principle (ISP).
+ */
+public interface ITombstoneRepository extends IGenericRepository<Tombstone, Long> {
+
+    /**
+     * Deletes the tombstones recorded before the given date, in a single DELETE.
+     * @param before exclusive upper bound of deletedAt (must not be null)
+     * @return the number of deleted tombstones
+     */
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@NonNull @Param("before") LocalDateTime before);
+}
@@ -1,6 +1,9 @@
 package com.quality.repository;
 
 import com.quality.model.TypeDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 
 import java.util.List;
@@ -25,8 +28,10 @@ public interface ITypeDocumentRepository extends IGenericRepository<TypeDocument
     
     /**
      * Find all active TypeDocuments.
+     * Loaded read-only: the result is never modified, so Hibernate keeps no snapshot of it.
      * @return list of active TypeDocuments (never null, may be empty)
      */
     @NonNull
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<TypeDocument> findByActiveTrue();
 }
@@ -0,0 +1,23 @@
+package com.quality.repository.projection;
+
+import com.quality.model.AccountStatus;
+
+/**
+ * Everything an activation attempt needs to decide its outcome, computed by the database in one query:
+ * the account state and whether the provided type document and document number match the owner.
+ * The owner's document number itself is never returned.
+ */
+public interface AccountActivationCheck {
+
+    Integer getIdAccount();
+
+    AccountStatus getStatus();
+
+    Integer getOwnerTypeDocumentId();
+
+    Boolean getTypeDocumentMatches();
+
+    Boolean getDocumentNumberMatches();
+
+    Boolean getTypeDocumentExists();
+}
@@ -0,0 +1,23 @@
+package com.quality.repository.projection;
+
+import com.quality.model.ActivationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an activation attempt for history queries.
+ * Selects only the audit columns, so the account, client and document type
+ * relations are not loaded for every row.
+ */
+public interface AccountActivationSummary {
+
+    Integer getIdAccountActivation();
+
+    Integer getIdAccount();
+
+    ActivationStatus getActivationStatus();
+
+    String getErrorReason();
+
+    LocalDateTime getAttemptDate();
+}
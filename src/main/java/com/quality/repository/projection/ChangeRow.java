@@ -0,0 +1,16 @@
+package com.quality.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a change feed: a modified row (deleted = false) or a tombstone (deleted = true).
+ * Only the key and position are read; modified rows are loaded afterwards in one batch.
+ */
+public interface ChangeRow {
+
+    Integer getId();
+
+    LocalDateTime getChangedAt();
+
+    Boolean getDeleted();
+}
@@ -0,0 +1,35 @@
+package com.quality.repository.projection;
+
+import com.quality.model.AccountStatus;
+import com.quality.model.ActivationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an account for the client overview, with its last activation attempt.
+ * Catalogs are returned as IDs only; their codes are resolved from memory by the caller,
+ * so the query never joins the catalog tables.
+ */
+public interface ClientAccountSummary {
+
+    Integer getIdAccount();
+
+    String getAccountNumber();
+
+    Integer getIdTypeAccount();
+
+    Integer getIdCurrency();
+
+    BigDecimal getBalance();
+
+    AccountStatus getStatus();
+
+    LocalDateTime getCreatedDate();
+
+    LocalDateTime getActivatedDate();
+
+    ActivationStatus getLastActivationStatus();
+
+    LocalDateTime getLastAttemptDate();
+}
@@ -0,0 +1,55 @@
+package com.quality.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson mix-ins for the compact list view (?view=compact).
+ * Shortens field names and drops null values on large list responses without
+ * touching the DTOs, so the regular JSON contract and Swagger schemas stay unchanged.
+ */
+final class CompactViewMixins {
+
+    private CompactViewMixins() {
+        // Private constructor to prevent instantiation
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract static class AccountMixin {
+        @JsonProperty("id") Integer idAccount;
+        @JsonProperty("no") String accountNumber;
+        @JsonProperty("cli") Integer idClient;
+        @JsonProperty("typ") Integer idTypeAccount;
+        @JsonProperty("cur") Integer idCurrency;
+        @JsonProperty("bal") Object balance;
+        @JsonProperty("st") Object status;
+        @JsonProperty("cd") Object createdDate;
+        @JsonProperty("ad") Object activatedDate;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract static class ClientMixin {
+        @JsonProperty("id") Integer idClient;
+        @JsonProperty("fn") String firstName;
+        @JsonProperty("ln") String lastName;
+        @JsonProperty("td") Integer idTypeDocument;
+        @JsonProperty("doc") String documentNumber;
+        @JsonProperty("em") String email;
+        @JsonProperty("ph") String phone;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract static class AccountActivationMixin {
+        @JsonProperty("id") Integer idAccountActivation;
+        @JsonProperty("acc") Integer idAccount;
+        @JsonProperty("no") String accountNumber;
+        @JsonProperty("td") Integer idTypeDocument;
+        @JsonProperty("doc") String documentNumber;
+        @JsonProperty("nop") String accountNumberProvided;
+        @JsonProperty("tdp") String typeDocumentProvided;
+        @JsonProperty("docp") String documentNumberProvided;
+        @JsonProperty("st") Object activationStatus;
+        @JsonProperty("er") String errorReason;
+        @JsonProperty("at") Object attemptDate;
+    }
+}
@@ -0,0 +1,79 @@
+package com.quality.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.quality.exception.response.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Writes error responses straight to the servlet output stream.
+ * Uses Spring's configured ObjectMapper (same date format and modules as controller responses)
+ * through an ObjectWriter built once, and encodes UTF-8 bytes directly without an intermediate String.
+ * The representation follows the request Accept header like streamed lists do (see
+ * JsonStreamWriter.negotiate): CBOR for clients that ask for it, JSON otherwise.
+ * Used where errors are written outside message conversion: filters and exception handlers.
+ * Follows Single Responsibility Principle (SRP) - only writes error responses.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter cborWriter;
+    private final JsonStreamWriter jsonStreamWriter;
+
+    public ErrorResponseWriter(
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            JsonStreamWriter jsonStreamWriter
+    ) {
+        // Error details are typed as Object; their serializers are resolved once per runtime type and cached
+        this.jsonWriter = objectMapper.writerFor(ErrorResponse.class);
+        this.cborWriter = cborConverter.getObjectMapper().writerFor(ErrorResponse.class);
+        this.jsonStreamWriter = jsonStreamWriter;
+    }
+
+    /**
+     * Sets the status and content type and writes the error body in the representation negotiated
+     * from the request Accept header.
+     *
+     * @param request the servlet request, whose Accept header selects JSON or CBOR
+     * @param response the servlet response (must not be committed)
+     * @param status the HTTP status
+     * @param body the error body
+     * @throws IOException if writing to the client fails
+     */
+    public void write(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull HttpStatus status,
+            @NonNull ErrorResponse body
+    ) throws IOException {
+        Objects.requireNonNull(body, "Error response cannot be null");
+        MediaType mediaType = jsonStreamWriter.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        boolean cbor = MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType);
+        ObjectWriter writer = cbor ? cborWriter : jsonWriter;
+
+        response.setStatus(status.value());
+        response.setContentType(mediaType.toString());
+        if (!cbor) {
+            response.setCharacterEncoding("UTF-8");
+        }
+
+        try (JsonGenerator generator = writer.createGenerator(response.getOutputStream())) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(generator, body);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.quality.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.quality.dto.AccountActivationDTO;
+import com.quality.dto.AccountDTO;
+import com.quality.dto.ClientDTO;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streams large collections as an array, converting and serializing one element at a time.
+ * The source is only visited when the body is written, so neither the entity list nor the DTO
+ * list is materialized: with a streaming source (e.g. IOperations.forEach) peak heap stays
+ * proportional to one fetch chunk instead of the whole response.
+ * Supports JSON (default) and CBOR, chosen from the request Accept header.
+ * Follows Single Responsibility Principle (SRP) - only writes streamed list responses.
+ */
+@Component
+public class JsonStreamWriter {
+
+    /**
+     * Value of the "view" request parameter that selects short field names.
+     */
+    public static final String COMPACT_VIEW = "compact";
+
+    private final Format json;
+    private final Format cbor;
+
+    public JsonStreamWriter(ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter) {
+        this.json = new Format(objectMapper);
+        this.cbor = new Format(cborConverter.getObjectMapper());
+    }
+
+    /**
+     * Checks whether the given "view" request parameter selects the compact view.
+     * @param view the raw parameter value (may be null)
+     * @return true for the compact view
+     */
+    public static boolean isCompact(String view) {
+        return COMPACT_VIEW.equalsIgnoreCase(view);
+    }
+
+    /**
+     * Picks the representation for a streamed list from the Accept header.
+     * JSON wins for missing, wildcard or unsupported values; CBOR is used only when
+     * the client prefers it explicitly.
+     *
+     * @param accept the raw Accept header (may be null)
+     * @return APPLICATION_JSON or APPLICATION_CBOR (never null)
+     */
+    @NonNull
+    public MediaType negotiate(@Nullable String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> requested;
+        try {
+            requested = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (IllegalArgumentException ex) {
+            return MediaType.APPLICATION_JSON;
+        }
+        requested.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+        for (MediaType mediaType : requested) {
+            if (mediaType.getQualityValue() <= 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Builds a response body that writes the source as an array.
+     * The source runs inside the body, after the response is committed, and is handed a callback
+     * that converts and serializes each element as soon as it is produced.
+     *
+     * @param source visits the elements to write, e.g. service::forEach (must not be null)
+     * @param converter converts each element to its DTO (must not be null)
+     * @param compact true to use the compact field names
+     * @param mediaType the negotiated representation, see {@link #negotiate(String)} (must not be null)
+     * @return the streaming body (never null)
+     */
+    @NonNull
+    public <E, D> StreamingResponseBody writeArray(
+            @NonNull Consumer<Consumer<E>> source,
+            @NonNull Function<E, D> converter,
+            boolean compact,
+            @NonNull MediaType mediaType
+    ) {
+        Objects.requireNonNull(source, "Source cannot be null");
+        Objects.requireNonNull(converter, "Converter cannot be null");
+        Format format = MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType) ? cbor : json;
+        ObjectWriter writer = compact ? format.compactWriter : format.defaultWriter;
+
+        return outputStream -> {
+            try (JsonGenerator generator = format.mapper.getFactory().createGenerator(outputStream)) {
+                // The servlet container owns the response stream
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                try {
+                    source.accept(element -> {
+                        try {
+                            writer.writeValue(generator, converter.apply(element));
+                        } catch (IOException ex) {
+                            // Leaves the source (and its transaction) through the callback
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+                } catch (UncheckedIOException ex) {
+                    throw ex.getCause();
+                }
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    /**
+     * Pre-built writers for one encoding.
+     */
+    private static final class Format {
+        private final ObjectMapper mapper;
+        private final ObjectWriter defaultWriter;
+        private final ObjectWriter compactWriter;
+
+        private Format(ObjectMapper mapper) {
+            this.mapper = mapper;
+            // Flushing after every element would turn each DTO into its own network write
+            this.defaultWriter = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.compactWriter = mapper.copy()
+                    .addMixIn(AccountDTO.class, CompactViewMixins.AccountMixin.class)
+                    .addMixIn(ClientDTO.class, CompactViewMixins.ClientMixin.class)
+                    .addMixIn(AccountActivationDTO.class, CompactViewMixins.AccountActivationMixin.class)
+                    .writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+    }
+}
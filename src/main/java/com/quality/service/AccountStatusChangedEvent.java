@@ -0,0 +1,23 @@
+package com.quality.service;
+
+import com.quality.model.AccountStatus;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published by the service layer when an account changes status.
+ * Listeners that must only see committed changes use @TransactionalEventListener.
+ *
+ * @param idAccount the account ID
+ * @param previousStatus the status before the change
+ * @param status the new status
+ * @param changedAt when the change was made
+ */
+public record AccountStatusChangedEvent(
+        @NonNull Integer idAccount,
+        @NonNull AccountStatus previousStatus,
+        @NonNull AccountStatus status,
+        @NonNull LocalDateTime changedAt
+) {
+}
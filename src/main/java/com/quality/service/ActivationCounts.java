@@ -0,0 +1,18 @@
+package com.quality.service;
+
+import java.time.Duration;
+
+/**
+ * Activation attempt counts of one account over a recent time window.
+ *
+ * @param idAccount the account id
+ * @param window the window the counts cover, ending now
+ * @param successCount successful attempts in the window
+ * @param failedCount failed attempts in the window
+ */
+public record ActivationCounts(Integer idAccount, Duration window, long successCount, long failedCount) {
+
+    public long totalCount() {
+        return successCount + failedCount;
+    }
+}
@@ -0,0 +1,20 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+/**
+ * One page of a change feed.
+ *
+ * @param changes the entries of this page in (changedAt, id) order (never null)
+ * @param nextToken high-water mark to resume from; equals the request token when nothing changed (never null)
+ * @param hasMore true when more changes are already available after this page
+ * @param <T> resource type
+ */
+public record ChangeFeedPage<T>(@NonNull List<ResourceChange<T>> changes, @NonNull String nextToken, boolean hasMore) {
+
+    public ChangeFeedPage {
+        changes = List.copyOf(changes);
+    }
+}
@@ -0,0 +1,19 @@
+package com.quality.service;
+
+import com.quality.model.Client;
+import com.quality.repository.projection.ClientAccountSummary;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+/**
+ * Client overview: the client plus a summary of each of their accounts.
+ *
+ * @param client the client (never null)
+ * @param accounts the accounts of the client with their last activation attempt (never null)
+ */
+public record ClientOverview(
+        @NonNull Client client,
+        @NonNull List<ClientAccountSummary> accounts
+) {
+}
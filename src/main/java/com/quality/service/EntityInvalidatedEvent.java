@@ -0,0 +1,19 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Application event telling node-local caches that an entity changed, on this node or another one.
+ * Published by ICacheInvalidationBus once the change is committed.
+ *
+ * @param resourceType the resource type (e.g. "TypeDocument"), or {@link #ALL} to drop every cached entry
+ * @param id the ID of the changed entity, or null when only the collection changed (e.g. a new entity)
+ */
+public record EntityInvalidatedEvent(@NonNull String resourceType, @Nullable String id) {
+
+    /**
+     * Resource type of a full resync, sent when invalidations from other nodes may have been missed.
+     */
+    public static final String ALL = "*";
+}
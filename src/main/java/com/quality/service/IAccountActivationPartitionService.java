@@ -0,0 +1,23 @@
+package com.quality.service;
+
+/**
+ * Service interface for the monthly partitions of the account activation audit table.
+ * Keeps partitions created ahead of time and moves months past the retention period
+ * to the archive schema.
+ * Follows Single Responsibility Principle (SRP) - only maintains activation partitions.
+ */
+public interface IAccountActivationPartitionService {
+
+    /**
+     * Creates the partitions for the current month and the configured months ahead, if missing.
+     * @return the number of partitions created
+     */
+    int ensurePartitions();
+
+    /**
+     * Detaches the partitions older than the retention period and moves them to the archive schema.
+     * Does nothing when retention is disabled.
+     * @return the number of partitions archived
+     */
+    int archiveExpiredPartitions();
+}
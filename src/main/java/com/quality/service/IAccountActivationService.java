@@ -2,7 +2,13 @@ package com.quality.service;
 
 import com.quality.dto.AccountActivationDTO;
 import com.quality.model.AccountActivation;
+import com.quality.model.ActivationStatus;
+import com.quality.repository.projection.AccountActivationSummary;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 /**
  * Service interface for AccountActivation operations.
@@ -11,6 +17,13 @@ import org.springframework.lang.NonNull;
  * Follows Interface Segregation Principle (ISP).
  */
 public interface IAccountActivationService extends IOperations<AccountActivation, Integer> {
+
+    /**
+     * Time window searched when no lower bound is given (compliance queries over the last 24h).
+     */
+    Duration DEFAULT_SEARCH_WINDOW = Duration.ofHours(24);
+    int DEFAULT_SEARCH_LIMIT = 50;
+    int MAX_SEARCH_LIMIT = 500;
     
     /**
      * Processes an account activation request.
@@ -24,4 +37,28 @@ public interface IAccountActivationService extends IOperations<AccountActivation
      */
     @NonNull
     AccountActivation activateAccount(@NonNull AccountActivationDTO dto);
+
+    /**
+     * Searches activation attempts by account, status and attempt date range, newest first.
+     * Uses keyset pagination: the returned cursor is passed back to get the next page,
+     * so deep pages cost the same as the first one.
+     *
+     * @param idAccount optional account filter
+     * @param status optional status filter
+     * @param from inclusive lower bound; defaults to {@link #DEFAULT_SEARCH_WINDOW} before the upper bound
+     * @param to exclusive upper bound; defaults to now
+     * @param limit page size, between 1 and {@link #MAX_SEARCH_LIMIT}
+     * @param cursor cursor returned by the previous page, or null for the first page
+     * @return the page of attempts and the next cursor (never null)
+     * @throws com.quality.exception.validation.InvalidFieldFormatException if the range, limit or cursor is invalid
+     */
+    @NonNull
+    KeysetPage<AccountActivationSummary> search(
+            @Nullable Integer idAccount,
+            @Nullable ActivationStatus status,
+            @Nullable LocalDateTime from,
+            @Nullable LocalDateTime to,
+            int limit,
+            @Nullable String cursor
+    );
 }
@@ -3,6 +3,10 @@ package com.quality.service;
 import com.quality.model.Account;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Service interface for Account operations.
  * Extends IOperations to inherit standard CRUD operations.
@@ -19,4 +23,30 @@ public interface IAccountService extends IOperations<Account, Integer> {
      */
     @NonNull
     Account findByAccountNumber(@NonNull String accountNumber);
+
+    /**
+     * Finds the accounts with the given IDs using IN (...) queries of bounded size.
+     * @param ids the account IDs (must not be null)
+     * @return the found accounts by ID; missing IDs are absent (never null)
+     */
+    @NonNull
+    Map<Integer, Account> findAllByIds(@NonNull Collection<Integer> ids);
+
+    /**
+     * Finds the accounts with the given account numbers using IN (...) queries of bounded size.
+     * @param accountNumbers the account numbers (must not be null)
+     * @return the found accounts by account number; missing numbers are absent (never null)
+     */
+    @NonNull
+    Map<String, Account> findAllByAccountNumbers(@NonNull Collection<String> accountNumbers);
+
+    /**
+     * Activates an account atomically: succeeds only for the request that moves it from INACTIVE to ACTIVE.
+     * Concurrent activations and accounts that are already ACTIVE or BLOCKED get false.
+     * A successful activation publishes an {@link AccountStatusChangedEvent}.
+     * @param idAccount the account ID (must not be null)
+     * @param activatedDate the activation date (must not be null)
+     * @return true if this call activated the account
+     */
+    boolean activateIfInactive(@NonNull Integer idAccount, @NonNull LocalDateTime activatedDate);
 }
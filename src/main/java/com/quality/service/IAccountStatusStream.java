@@ -0,0 +1,35 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+/**
+ * Service interface for pushing account status changes to Server-Sent Events subscribers.
+ * Each event carries a sequential id; a subscriber that reconnects with the last id it received
+ * gets the events it missed, or a "reset" event when they are no longer buffered.
+ * Follows Single Responsibility Principle (SRP) - only streams account status changes.
+ */
+public interface IAccountStatusStream {
+
+    /**
+     * SSE event name of a status change.
+     */
+    String STATUS_EVENT = "account-status";
+
+    /**
+     * SSE event name sent when missed events cannot be replayed; the client must re-read the account state.
+     */
+    String RESET_EVENT = "reset";
+
+    /**
+     * Opens a subscription.
+     * @param idAccount only stream the changes of this account (null for all accounts)
+     * @param lastEventId the Last-Event-ID sent by a reconnecting client (null for a new subscription)
+     * @return the emitter of the subscription, or empty when the subscriber limit is reached (never null)
+     */
+    @NonNull
+    Optional<SseEmitter> subscribe(@Nullable Integer idAccount, @Nullable String lastEventId);
+}
@@ -0,0 +1,45 @@
+package com.quality.service;
+
+import com.quality.model.ActivationStatus;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for in-memory activation attempt counters.
+ * Answers "how many failed activations did account X have in the last hour" from memory,
+ * without reading the activation audit table.
+ * Follows Single Responsibility Principle (SRP) - only counts recent activation attempts.
+ */
+public interface IActivationCounterService {
+
+    /**
+     * Length of the sliding window covered by the counters.
+     */
+    Duration WINDOW = Duration.ofHours(1);
+
+    /**
+     * Records one activation attempt.
+     * @param idAccount the account id (must not be null)
+     * @param status the attempt outcome (must not be null)
+     * @param attemptDate when the attempt happened (must not be null)
+     */
+    void record(@NonNull Integer idAccount, @NonNull ActivationStatus status, @NonNull LocalDateTime attemptDate);
+
+    /**
+     * Returns the counts of an account over the last {@link #WINDOW}.
+     * Accounts without recent attempts return zero counts.
+     * @param idAccount the account id (must not be null)
+     * @return the counts (never null)
+     */
+    @NonNull
+    ActivationCounts getCounts(@NonNull Integer idAccount);
+
+    /**
+     * Returns the number of failed attempts of an account over the last {@link #WINDOW}.
+     * @param idAccount the account id (must not be null)
+     * @return failed attempts in the window
+     */
+    long countRecentFailures(@NonNull Integer idAccount);
+}
@@ -0,0 +1,21 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Service interface for invalidating node-local caches on every node after a write.
+ * Follows Single Responsibility Principle (SRP) - only propagates cache invalidations.
+ */
+public interface ICacheInvalidationBus {
+
+    /**
+     * Announces a change of a resource type that has node-local caches.
+     * The change is sent to the other nodes through the configured {@link ICacheInvalidationTransport}
+     * as part of the current transaction, and published locally as an {@link EntityInvalidatedEvent}
+     * once it commits (immediately without a transaction); nothing is delivered on rollback.
+     * @param resourceType the resource type (must not be null)
+     * @param id the ID of the changed entity, or null when only the collection changed
+     */
+    void publish(@NonNull String resourceType, @Nullable Object id);
+}
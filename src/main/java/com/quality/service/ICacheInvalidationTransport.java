@@ -0,0 +1,21 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Carries cache invalidations between nodes.
+ * Received invalidations are published as {@link EntityInvalidatedEvent} on the receiving node;
+ * after a connection loss the transport publishes {@link EntityInvalidatedEvent#ALL}, since
+ * invalidations sent meanwhile are lost.
+ * Follows Single Responsibility Principle (SRP) - only transports invalidations.
+ */
+public interface ICacheInvalidationTransport {
+
+    /**
+     * Sends an invalidation to the other nodes.
+     * Called before commit when the change is made in a transaction, so it must only be delivered if
+     * that transaction commits; without a transaction the change is already committed.
+     * @param event the invalidation (must not be null)
+     */
+    void send(@NonNull EntityInvalidatedEvent event);
+}
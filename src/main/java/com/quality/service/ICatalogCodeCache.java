@@ -0,0 +1,29 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Service interface for resolving catalog codes (type accounts, currencies) from memory.
+ * Lets read models return catalog IDs only instead of joining the catalog tables.
+ * Entries follow ICatalogVersionService: a catalog is reloaded after its version is bumped.
+ * Follows Single Responsibility Principle (SRP) - only resolves catalog codes.
+ */
+public interface ICatalogCodeCache {
+
+    /**
+     * Returns the code of a type account.
+     * @param idTypeAccount the type account ID (must not be null)
+     * @return the code, or null if no type account has that ID
+     */
+    @Nullable
+    String typeAccountCode(@NonNull Integer idTypeAccount);
+
+    /**
+     * Returns the code of a currency.
+     * @param idCurrency the currency ID (must not be null)
+     * @return the code, or null if no currency has that ID
+     */
+    @Nullable
+    String currencyCode(@NonNull Integer idCurrency);
+}
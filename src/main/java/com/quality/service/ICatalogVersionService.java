@@ -0,0 +1,49 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Service interface for catalog versioning.
+ * Keeps a version counter per catalog (type documents, currencies, type accounts)
+ * that is bumped on every write, so read endpoints can answer conditional GETs
+ * without querying or serializing the catalog.
+ * Versions are node-local; ETags are derived from the catalog contents and agree across nodes.
+ * Follows Single Responsibility Principle (SRP) - only tracks catalog versions.
+ */
+public interface ICatalogVersionService {
+
+    String TYPE_DOCUMENTS = "type-documents";
+    String CURRENCIES = "currencies";
+    String TYPE_ACCOUNTS = "type-accounts";
+
+    /**
+     * Marks a catalog as modified, invalidating every ETag issued for it.
+     * @param catalog the catalog name (must not be null)
+     */
+    void bump(@NonNull String catalog);
+
+    /**
+     * Returns the current version of a catalog.
+     * @param catalog the catalog name (must not be null)
+     * @return the current version number
+     */
+    long currentVersion(@NonNull String catalog);
+
+    /**
+     * Builds the strong ETag for the current contents of a catalog.
+     * @param catalog the catalog name (must not be null)
+     * @return quoted ETag value, e.g. "currencies-3f2a9c1d5e7b8a04" (never null)
+     */
+    @NonNull
+    String currentETag(@NonNull String catalog);
+
+    /**
+     * Checks whether an If-None-Match header value matches the given ETag.
+     * Supports lists of ETags, weak validators and the "*" wildcard.
+     * @param ifNoneMatch the raw If-None-Match header value (may be null)
+     * @param etag the current ETag (must not be null)
+     * @return true if the client representation is still current
+     */
+    boolean matches(@Nullable String ifNoneMatch, @NonNull String etag);
+}
@@ -0,0 +1,48 @@
+package com.quality.service;
+
+import com.quality.model.Account;
+import com.quality.model.Client;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Service interface for the delta-sync change feeds of clients and accounts.
+ * A feed returns the rows modified and deleted after a high-water-mark token, so mirrors
+ * only transfer what changed since their last poll. Without a token the feed starts from
+ * the beginning and lists every current row.
+ * Follows Single Responsibility Principle (SRP) - only reads change feeds.
+ */
+public interface IChangeFeedService {
+
+    int DEFAULT_LIMIT = 100;
+    int MAX_LIMIT = 1000;
+
+    /**
+     * Reads the client changes after the given token.
+     * @param since token returned by a previous page (null to start from the beginning)
+     * @param limit maximum number of changes, between 1 and {@link #MAX_LIMIT}
+     * @return the page of changes (never null)
+     * @throws com.quality.exception.validation.InvalidFieldFormatException if the token or limit is invalid,
+     *         or the token is older than the tombstone retention
+     */
+    @NonNull
+    ChangeFeedPage<Client> clientChanges(@Nullable String since, int limit);
+
+    /**
+     * Reads the account changes after the given token.
+     * @param since token returned by a previous page (null to start from the beginning)
+     * @param limit maximum number of changes, between 1 and {@link #MAX_LIMIT}
+     * @return the page of changes (never null)
+     * @throws com.quality.exception.validation.InvalidFieldFormatException if the token or limit is invalid,
+     *         or the token is older than the tombstone retention
+     */
+    @NonNull
+    ChangeFeedPage<Account> accountChanges(@Nullable String since, int limit);
+
+    /**
+     * Records the deletion of a resource, in the caller's transaction.
+     * @param resourceType the resource type ("Client" or "Account")
+     * @param id the deleted resource ID
+     */
+    void recordDeletion(@NonNull String resourceType, @NonNull Integer id);
+}
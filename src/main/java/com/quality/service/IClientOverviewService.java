@@ -0,0 +1,19 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Service interface for the client overview read model.
+ * Follows Single Responsibility Principle (SRP) - only builds client overviews.
+ */
+public interface IClientOverviewService {
+
+    /**
+     * Builds the overview of a client: the client and their accounts with the last activation attempt.
+     * @param idClient the client ID (must not be null)
+     * @return the overview (never null)
+     * @throws com.quality.exception.resource.ResourceNotFoundByIdException if the client does not exist
+     */
+    @NonNull
+    ClientOverview findOverview(@NonNull Integer idClient);
+}
@@ -1,6 +1,18 @@
 package com.quality.service;
 
 import com.quality.model.Client;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.Map;
 
 public interface IClientService extends IOperations<Client, Integer> {
+
+    /**
+     * Finds the clients with the given IDs using IN (...) queries of bounded size.
+     * @param ids the client IDs (must not be null)
+     * @return the found clients by ID; missing IDs are absent (never null)
+     */
+    @NonNull
+    Map<Integer, Client> findAllByIds(@NonNull Collection<Integer> ids);
 }
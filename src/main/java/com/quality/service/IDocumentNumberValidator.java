@@ -0,0 +1,44 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Service interface for document number validation against the rules of its TypeDocument
+ * (validationPattern, minLength, maxLength).
+ * Rules are compiled once per type document and cached; a type document is evicted whenever
+ * it changes, on every node (see LocalCacheEvictionListener).
+ * Follows Single Responsibility Principle (SRP) - only validates document numbers.
+ */
+public interface IDocumentNumberValidator {
+
+    /**
+     * Validates a document number against the rules of its type document.
+     * Unknown or inactive type documents impose no rule.
+     *
+     * @param idTypeDocument the type document ID (must not be null)
+     * @param documentNumber the document number (must not be null)
+     * @throws com.quality.exception.validation.InvalidFieldFormatException if the document number
+     *         does not satisfy the rules
+     */
+    void validate(@NonNull Integer idTypeDocument, @NonNull String documentNumber);
+
+    /**
+     * Checks that a validation pattern compiles, before it is stored in a type document.
+     *
+     * @param validationPattern the pattern (null or blank means no pattern)
+     * @throws com.quality.exception.validation.InvalidFieldFormatException if the pattern is not a valid regular expression
+     */
+    void checkPattern(String validationPattern);
+
+    /**
+     * Drops the cached rules of a type document, so the next validation reads its current definition.
+     *
+     * @param idTypeDocument the type document ID (must not be null)
+     */
+    void evict(@NonNull Integer idTypeDocument);
+
+    /**
+     * Drops every cached rule, e.g. after invalidations from other nodes may have been missed.
+     */
+    void evictAll();
+}
@@ -0,0 +1,53 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Store of idempotency keys and the responses recorded for them.
+ * A key is claimed by the first request, then either completed with its response or released
+ * (for failures that a retry should re-execute). Keys expire after a fixed TTL.
+ * Each key records a hash of the request that claimed it, so a key reused for a different request
+ * is reported instead of replaying a response that does not belong to it.
+ * Follows Interface Segregation Principle (ISP) - only the operations needed by the idempotency filter.
+ */
+public interface IIdempotencyStore {
+
+    /**
+     * Default lifetime of a key and its stored response.
+     */
+    Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    /**
+     * Claim that is still in progress after this long is considered abandoned (e.g. the node died)
+     * and may be taken over by a retry.
+     */
+    Duration DEFAULT_IN_PROGRESS_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * Atomically claims the key, or reports the state of the request that holds it.
+     * A key held by a request with another hash is reported as MISMATCH, whatever its state.
+     *
+     * @param key the idempotency key (must not be null)
+     * @param requestHash hash of the request body (must not be null)
+     * @return the claim outcome (never null)
+     */
+    @NonNull
+    IdempotencyClaim claim(@NonNull String key, @NonNull String requestHash);
+
+    /**
+     * Stores the response of a claimed key.
+     *
+     * @param key the claimed key (must not be null)
+     * @param response the response to replay (must not be null)
+     */
+    void complete(@NonNull String key, @NonNull IdempotentResponse response);
+
+    /**
+     * Releases a claimed key that has no response, so a retry executes the request again.
+     *
+     * @param key the claimed key (must not be null)
+     */
+    void release(@NonNull String key);
+}
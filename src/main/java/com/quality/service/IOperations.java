@@ -3,6 +3,7 @@ package com.quality.service;
 import org.springframework.lang.NonNull;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Generic CRUD operations interface.
@@ -38,6 +39,13 @@ public interface IOperations<T, ID> {
     @NonNull
     List<T> findAll();
 
+    /**
+     * Visits all entities in one read-only transaction without holding them all in memory.
+     * The entities are detached in chunks, so the action must not keep or modify them.
+     * @param action called once per entity (must not be null)
+     */
+    void forEach(@NonNull Consumer<T> action);
+
     /**
      * Finds an entity by ID.
      * @param id ID to search for (must not be null)
@@ -0,0 +1,36 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Service interface for unique field enforcement on writes.
+ * In "query" mode services check for duplicates with existsBy* queries before writing; in
+ * "constraint" mode they write directly and the database unique constraints are the only guard.
+ * In both modes unique violations raised by the database are reported as DuplicateFieldException,
+ * so the API contract (409, RBV-005) does not depend on the mode.
+ * Follows Single Responsibility Principle (SRP) - only decides and translates duplicate checks.
+ */
+public interface IUniqueConstraintService {
+
+    String MODE_QUERY = "query";
+    String MODE_CONSTRAINT = "constraint";
+
+    /**
+     * @return true when services must run their existsBy* checks before writing
+     */
+    boolean checksBeforeWrite();
+
+    /**
+     * Runs a write and translates a unique violation into a DuplicateFieldException.
+     *
+     * @param write the write operation (must not be null)
+     * @param uniqueValues values of the unique fields being written, by API field name; used to report
+     *                     the submitted value (must not be null)
+     * @return the result of the write
+     * @throws com.quality.exception.validation.DuplicateFieldException if a unique constraint is violated
+     */
+    <T> T write(@NonNull Supplier<T> write, @NonNull Map<String, ?> uniqueValues);
+}
@@ -0,0 +1,45 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Outcome of claiming an idempotency key.
+ *
+ * @param state whether the caller owns the key, another request is running, a response is stored,
+ *              or the key is held by a request with a different body
+ * @param response the stored response when the state is COMPLETED, null otherwise
+ */
+public record IdempotencyClaim(@NonNull State state, @Nullable IdempotentResponse response) {
+
+    public enum State {
+        /** The caller owns the key and must complete or release it. */
+        CLAIMED,
+        /** Another request with the same key is still running. */
+        IN_PROGRESS,
+        /** A request with the same key already completed; its response is attached. */
+        COMPLETED,
+        /** The key is held by a request with a different body, so this is not a retry of it. */
+        MISMATCH
+    }
+
+    private static final IdempotencyClaim CLAIMED = new IdempotencyClaim(State.CLAIMED, null);
+    private static final IdempotencyClaim IN_PROGRESS = new IdempotencyClaim(State.IN_PROGRESS, null);
+    private static final IdempotencyClaim MISMATCH = new IdempotencyClaim(State.MISMATCH, null);
+
+    public static IdempotencyClaim claimed() {
+        return CLAIMED;
+    }
+
+    public static IdempotencyClaim inProgress() {
+        return IN_PROGRESS;
+    }
+
+    public static IdempotencyClaim mismatch() {
+        return MISMATCH;
+    }
+
+    public static IdempotencyClaim completed(@NonNull IdempotentResponse response) {
+        return new IdempotencyClaim(State.COMPLETED, response);
+    }
+}
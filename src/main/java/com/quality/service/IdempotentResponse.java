@@ -0,0 +1,21 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Response of a completed idempotent request, replayed to retries with the same transaction id.
+ * Only what the create endpoints produce is kept: status, Content-Type, Location and body.
+ *
+ * @param status the HTTP status
+ * @param contentType the Content-Type header, or null without body
+ * @param location the Location header, or null
+ * @param body the response body (never null, may be empty)
+ */
+public record IdempotentResponse(
+        int status,
+        @Nullable String contentType,
+        @Nullable String location,
+        @NonNull byte[] body
+) {
+}
@@ -0,0 +1,67 @@
+package com.quality.service;
+
+import com.quality.exception.validation.InvalidFieldFormatException;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque keyset pagination cursor: the (timestamp, id) position of the last row returned.
+ * Encoded as URL-safe base64 so clients treat it as an opaque token.
+ */
+@Getter
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+    private final Integer id;
+
+    public KeysetCursor(@NonNull LocalDateTime timestamp, @NonNull Integer id) {
+        this.timestamp = Objects.requireNonNull(timestamp, "Cursor timestamp cannot be null");
+        this.id = Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     * @return URL-safe token (never null)
+     */
+    @NonNull
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * @param fieldName the request parameter name, used in the error details
+     * @param token the token (must not be null)
+     * @return the decoded cursor (never null)
+     * @throws InvalidFieldFormatException if the token was not produced by this class
+     */
+    @NonNull
+    public static KeysetCursor decode(@NonNull String fieldName, @NonNull String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw invalid(fieldName, token);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid(fieldName, token);
+        }
+    }
+
+    private static InvalidFieldFormatException invalid(String fieldName, String token) {
+        return new InvalidFieldFormatException(fieldName, token, "Must be a cursor returned by a previous page");
+    }
+}
@@ -0,0 +1,20 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query.
+ *
+ * @param items the rows of this page (never null)
+ * @param nextCursor token for the next page, or null when this is the last page
+ * @param <T> row type
+ */
+public record KeysetPage<T>(@NonNull List<T> items, @Nullable String nextCursor) {
+
+    public KeysetPage {
+        items = List.copyOf(items);
+    }
+}
@@ -0,0 +1,21 @@
+package com.quality.service;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a change feed.
+ *
+ * @param id the resource ID
+ * @param changedAt when the resource was last modified or deleted
+ * @param item the current state of the resource, or null when it was deleted
+ * @param <T> resource type
+ */
+public record ResourceChange<T>(@NonNull Integer id, @NonNull LocalDateTime changedAt, @Nullable T item) {
+
+    public boolean deleted() {
+        return item == null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.quality.service.implement;
+
+import com.quality.service.IAccountActivationPartitionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Implementation of IAccountActivationPartitionService.
+ * Delegates to the database functions created by the V3 migration, so the partition layout
+ * is defined in a single place. Runs once at startup and then on a daily schedule.
+ * Follows Single Responsibility Principle (SRP) - only maintains activation partitions.
+ */
+@Service
+@ConditionalOnProperty(name = "activation.partitions.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class AccountActivationPartitionServiceImplement implements IAccountActivationPartitionService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public AccountActivationPartitionServiceImplement(
+            JdbcTemplate jdbcTemplate,
+            @Value("${activation.partitions.months-ahead:2}") int monthsAhead,
+            @Value("${activation.partitions.retention-months:0}") int retentionMonths
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Override
+    public int ensurePartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            Boolean result = jdbcTemplate.queryForObject(
+                    "SELECT ensure_account_activation_partition(?)", Boolean.class, currentMonth.plusMonths(i));
+            if (Boolean.TRUE.equals(result)) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    @Override
+    public int archiveExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return 0;
+        }
+        LocalDate before = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT archive_account_activation_partitions(?)", Integer.class, before);
+        return archived != null ? archived : 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${activation.partitions.cron:0 15 2 * * *}")
+    public void maintain() {
+        ensurePartitions();
+        archiveExpiredPartitions();
+    }
+}
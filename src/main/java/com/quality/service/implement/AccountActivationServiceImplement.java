@@ -1,19 +1,34 @@
 package com.quality.service.implement;
 
 import com.quality.dto.AccountActivationDTO;
+import com.quality.exception.resource.ResourceNotFoundByIdException;
+import com.quality.exception.validation.InvalidFieldFormatException;
 import com.quality.model.*;
 import com.quality.repository.IAccountActivationRepository;
+import com.quality.repository.IAccountRepository;
 import com.quality.repository.IGenericRepository;
+import com.quality.repository.ITypeDocumentRepository;
+import com.quality.repository.projection.AccountActivationCheck;
+import com.quality.repository.projection.AccountActivationSummary;
 import com.quality.service.IAccountActivationService;
 import com.quality.service.IAccountService;
-import com.quality.service.ITypeDocumentService;
+import com.quality.service.IActivationCounterService;
+import com.quality.service.IDocumentNumberValidator;
+import com.quality.service.KeysetCursor;
+import com.quality.service.KeysetPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Implementation of IAccountActivationService.
@@ -28,7 +43,10 @@ public class AccountActivationServiceImplement extends OperationsImplement<Accou
     
     private final IAccountActivationRepository repo;
     private final IAccountService accountService;
-    private final ITypeDocumentService typeDocumentService;
+    private final IAccountRepository accountRepository;
+    private final ITypeDocumentRepository typeDocumentRepository;
+    private final IActivationCounterService activationCounterService;
+    private final IDocumentNumberValidator documentNumberValidator;
     
     @Override
     @NonNull
@@ -42,6 +60,12 @@ public class AccountActivationServiceImplement extends OperationsImplement<Accou
     protected String getResourceType() {
         return "AccountActivation";
     }
+
+    @Override
+    @NonNull
+    protected Stream<AccountActivation> streamAll() {
+        return repo.streamAllWithDetails();
+    }
     
     @Override
     @Transactional
@@ -53,93 +77,155 @@ public class AccountActivationServiceImplement extends OperationsImplement<Accou
         String documentNumber = Objects.requireNonNull(dto.getDocumentNumber(), "Document number cannot be null");
         Integer idTypeDocument = Objects.requireNonNull(dto.getIdTypeDocument(), "Type document ID cannot be null");
         
-        // Find account by account number (more secure than using ID)
-        Account account = accountService.findByAccountNumber(accountNumber);
-        
-        // Get the type document provided
-        TypeDocument typeDocumentProvided = typeDocumentService.findById(idTypeDocument);
+        // Malformed document numbers can never match an owner: reject them before any lookup
+        documentNumberValidator.validate(idTypeDocument, documentNumber);
         
-        // Get the account owner's information
-        Client accountOwner = account.getClient();
-        
-        // Validate the provided information against the account owner
-        boolean isValid = validateActivation(
-                accountOwner,
-                typeDocumentProvided,
-                documentNumber
-        );
+        // One query finds the account (by number, more secure than using ID) and compares the
+        // provided document data with the owner's; no entity graph is loaded
+        AccountActivationCheck check = accountRepository.findActivationCheck(accountNumber, idTypeDocument, documentNumber)
+                .orElseThrow(() -> new ResourceNotFoundByIdException("Account", accountNumber));
+        if (!Boolean.TRUE.equals(check.getTypeDocumentExists())) {
+            throw new ResourceNotFoundByIdException("TypeDocument", idTypeDocument);
+        }
         
-        // Create activation record
         AccountActivation activation = new AccountActivation();
-        activation.setAccount(account);
-        activation.setTypeDocumentProvided(typeDocumentProvided);
         activation.setDocumentNumberProvided(documentNumber);
         activation.setAccountNumberProvided(accountNumber);
         activation.setAttemptDate(LocalDateTime.now());
         
-        if (isValid) {
-            // Validation successful - activate account
-            activation.setActivationStatus(ActivationStatus.SUCCESS);
-            activation.setErrorReason(null);
-            
-            // Update account status to ACTIVE
-            account.setStatus(AccountStatus.ACTIVE);
-            account.setActivatedDate(LocalDateTime.now());
-            Integer accountId = Objects.requireNonNull(account.getIdAccount(), "Account ID cannot be null");
-            accountService.update(account, accountId);
+        if (validateActivation(check)) {
+            // Single conditional UPDATE: only the request that moves the account out of INACTIVE succeeds,
+            // so concurrent activations and ACTIVE/BLOCKED accounts are never (re)activated
+            String notActivatedReason = activate(check);
+            if (notActivatedReason == null) {
+                activation.setActivationStatus(ActivationStatus.SUCCESS);
+                activation.setErrorReason(null);
+            } else {
+                activation.setActivationStatus(ActivationStatus.FAILED);
+                activation.setErrorReason(notActivatedReason);
+            }
         } else {
             // Validation failed - record the failure
             activation.setActivationStatus(ActivationStatus.FAILED);
-            activation.setErrorReason(buildErrorReason(accountOwner, typeDocumentProvided, documentNumber));
+            activation.setErrorReason(buildErrorReason(check));
         }
         
+        // References only carry the foreign keys; taken after the activation UPDATE, which clears the context
+        activation.setAccount(accountRepository.getReferenceById(check.getIdAccount()));
+        activation.setTypeDocumentProvided(typeDocumentRepository.getReferenceById(idTypeDocument));
+        
         // Save and return the activation record
-        return repo.save(activation);
+        AccountActivation saved = repo.save(activation);
+        recordAttemptAfterCommit(saved);
+        return saved;
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    @NonNull
+    public KeysetPage<AccountActivationSummary> search(
+            @Nullable Integer idAccount,
+            @Nullable ActivationStatus status,
+            @Nullable LocalDateTime from,
+            @Nullable LocalDateTime to,
+            int limit,
+            @Nullable String cursor
+    ) {
+        LocalDateTime upper = to != null ? to : LocalDateTime.now();
+        LocalDateTime lower = from != null ? from : upper.minus(DEFAULT_SEARCH_WINDOW);
+        if (!lower.isBefore(upper)) {
+            throw new InvalidFieldFormatException("from", lower, "Must be before 'to'");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidFieldFormatException("limit", limit, "Must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+
+        // First page starts right below the upper bound: attemptDate < to
+        KeysetCursor position = new KeysetCursor(upper, 0);
+        if (cursor != null) {
+            KeysetCursor decoded = KeysetCursor.decode("cursor", cursor);
+            if (decoded.getTimestamp().isBefore(upper)) {
+                position = decoded;
+            }
+        }
+
+        // One extra row tells whether there is a next page without a count query
+        List<AccountActivationSummary> rows = repo.search(
+                lower, position.getTimestamp(), position.getId(), idAccount, status, PageRequest.of(0, limit + 1));
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<AccountActivationSummary> page = rows.subList(0, limit);
+        AccountActivationSummary last = page.get(limit - 1);
+        return new KeysetPage<>(page, new KeysetCursor(last.getAttemptDate(), last.getIdAccountActivation()).encode());
+    }
+
+    /**
+     * Updates the in-memory activation counters once the attempt is committed,
+     * so rolled-back attempts are never counted.
+     *
+     * @param activation the saved activation record
+     */
+    private void recordAttemptAfterCommit(@NonNull AccountActivation activation) {
+        Integer idAccount = Objects.requireNonNull(activation.getAccount().getIdAccount(), "Account ID cannot be null");
+        ActivationStatus status = Objects.requireNonNull(activation.getActivationStatus(), "Activation status cannot be null");
+        LocalDateTime attemptDate = Objects.requireNonNull(activation.getAttemptDate(), "Attempt date cannot be null");
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            activationCounterService.record(idAccount, status, attemptDate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                activationCounterService.record(idAccount, status, attemptDate);
+            }
+        });
+    }
+
+    /**
+     * Moves the account from INACTIVE to ACTIVE with a compare-and-set UPDATE.
+     * Skips the write when the account is already out of INACTIVE.
+     *
+     * @param check the activation check of the account
+     * @return null if this call activated the account, otherwise the reason it was not activated
+     */
+    private String activate(@NonNull AccountActivationCheck check) {
+        AccountStatus status = check.getStatus();
+        if (status != AccountStatus.INACTIVE) {
+            return "Account is " + status + "; only INACTIVE accounts can be activated";
+        }
+
+        Integer accountId = Objects.requireNonNull(check.getIdAccount(), "Account ID cannot be null");
+        if (!accountService.activateIfInactive(accountId, LocalDateTime.now())) {
+            return "Account was activated or blocked by a concurrent request";
+        }
+        return null;
+    }
+
     /**
      * Validates that the provided document information matches the account owner.
      * Follows Single Responsibility Principle (SRP) - encapsulates validation logic.
      * 
-     * @param accountOwner the client who owns the account
-     * @param typeDocumentProvided the type of document provided
-     * @param documentNumberProvided the document number provided
+     * @param check the activation check computed by the database
      * @return true if validation passes, false otherwise
      */
-    private boolean validateActivation(
-            @NonNull Client accountOwner,
-            @NonNull TypeDocument typeDocumentProvided,
-            @NonNull String documentNumberProvided
-    ) {
-        // Check if type document matches
-        boolean typeDocumentMatches = accountOwner.getTypeDocument().getIdTypeDocument()
-                .equals(typeDocumentProvided.getIdTypeDocument());
-        
-        // Check if document number matches
-        boolean documentNumberMatches = accountOwner.getDocumentNumber()
-                .equals(documentNumberProvided);
-        
-        return typeDocumentMatches && documentNumberMatches;
+    private boolean validateActivation(@NonNull AccountActivationCheck check) {
+        return Boolean.TRUE.equals(check.getTypeDocumentMatches())
+                && Boolean.TRUE.equals(check.getDocumentNumberMatches());
     }
     
     /**
      * Builds a descriptive error reason when validation fails.
      * Follows Open/Closed Principle (OCP) - easy to extend with more detailed reasons.
      * 
-     * @param accountOwner the client who owns the account
-     * @param typeDocumentProvided the type of document provided
-     * @param documentNumberProvided the document number provided
+     * @param check the activation check computed by the database
      * @return a descriptive error message
      */
-    private String buildErrorReason(
-            @NonNull Client accountOwner,
-            @NonNull TypeDocument typeDocumentProvided,
-            @NonNull String documentNumberProvided
-    ) {
-        boolean typeDocumentMatches = accountOwner.getTypeDocument().getIdTypeDocument()
-                .equals(typeDocumentProvided.getIdTypeDocument());
-        boolean documentNumberMatches = accountOwner.getDocumentNumber()
-                .equals(documentNumberProvided);
+    private String buildErrorReason(@NonNull AccountActivationCheck check) {
+        boolean typeDocumentMatches = Boolean.TRUE.equals(check.getTypeDocumentMatches());
+        boolean documentNumberMatches = Boolean.TRUE.equals(check.getDocumentNumberMatches());
         
         if (!typeDocumentMatches && !documentNumberMatches) {
             return "Type document and document number do not match account owner";
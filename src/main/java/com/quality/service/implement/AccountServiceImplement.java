@@ -2,15 +2,24 @@ package com.quality.service.implement;
 
 import com.quality.exception.resource.ResourceNotFoundByIdException;
 import com.quality.model.Account;
+import com.quality.model.AccountStatus;
 import com.quality.repository.IAccountRepository;
 import com.quality.repository.IGenericRepository;
+import com.quality.service.AccountStatusChangedEvent;
 import com.quality.service.IAccountNumberGenerator;
 import com.quality.service.IAccountService;
+import com.quality.service.IChangeFeedService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Implementation of IAccountService.
@@ -24,6 +33,8 @@ public class AccountServiceImplement extends OperationsImplement<Account, Intege
     
     private final IAccountRepository repo;
     private final IAccountNumberGenerator accountNumberGenerator;
+    private final IChangeFeedService changeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @NonNull
@@ -37,6 +48,12 @@ public class AccountServiceImplement extends OperationsImplement<Account, Intege
     protected String getResourceType() {
         return "Account";
     }
+
+    @Override
+    @NonNull
+    protected Stream<Account> streamAll() {
+        return repo.streamAllWithDetails();
+    }
     
     @Override
     @NonNull
@@ -57,6 +74,7 @@ public class AccountServiceImplement extends OperationsImplement<Account, Intege
     @Override
     @NonNull
     @SuppressWarnings("null")
+    @Transactional(readOnly = true)
     public Account findByAccountNumber(@NonNull String accountNumber) {
         Objects.requireNonNull(accountNumber, "Account number cannot be null");
         return repo.findByAccountNumber(accountNumber)
@@ -65,4 +83,41 @@ public class AccountServiceImplement extends OperationsImplement<Account, Intege
                         accountNumber
                 ));
     }
+
+    /**
+     * Deletes the account and records its tombstone in the same transaction, so the change feed reports the delete.
+     */
+    @Override
+    @Transactional
+    public void delete(@NonNull Integer id) {
+        super.delete(id);
+        changeFeedService.recordDeletion(getResourceType(), id);
+    }
+
+    @Override
+    @NonNull
+    @Transactional(readOnly = true)
+    public Map<Integer, Account> findAllByIds(@NonNull Collection<Integer> ids) {
+        return ChunkedLookup.find(ids, repo::findAllWithDetailsByIdAccountIn, Account::getIdAccount);
+    }
+
+    @Override
+    @NonNull
+    @Transactional(readOnly = true)
+    public Map<String, Account> findAllByAccountNumbers(@NonNull Collection<String> accountNumbers) {
+        return ChunkedLookup.find(accountNumbers, repo::findAllWithDetailsByAccountNumberIn, Account::getAccountNumber);
+    }
+
+    @Override
+    @Transactional
+    public boolean activateIfInactive(@NonNull Integer idAccount, @NonNull LocalDateTime activatedDate) {
+        Objects.requireNonNull(idAccount, "Account ID cannot be null");
+        Objects.requireNonNull(activatedDate, "Activated date cannot be null");
+        if (repo.activateIfInactive(idAccount, activatedDate) != 1) {
+            return false;
+        }
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(
+                idAccount, AccountStatus.INACTIVE, AccountStatus.ACTIVE, activatedDate));
+        return true;
+    }
 }
@@ -0,0 +1,286 @@
+package com.quality.service.implement;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quality.dto.AccountStatusEventDTO;
+import com.quality.service.AccountStatusChangedEvent;
+import com.quality.service.IAccountStatusStream;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of IAccountStatusStream.
+ * Status changes arrive from the service layer as AccountStatusChangedEvent, after commit, so
+ * rolled-back activations are never pushed. Each event is serialized once and offered to every
+ * subscriber's bounded queue; a small shared pool drains the queues, so an idle connection costs
+ * no thread.
+ * A subscriber whose queue is full is disconnected instead of buffering without limit: the client
+ * reconnects with Last-Event-ID and resumes from the replay buffer of the most recent events.
+ * Event ids start at the startup timestamp, so ids from a previous process are older than any
+ * buffered event and get a "reset" instead of a partial replay.
+ * Follows Single Responsibility Principle (SRP) - only streams account status changes.
+ */
+@Service
+public class AccountStatusStreamImplement implements IAccountStatusStream {
+
+    private static final Outbound HEARTBEAT = new Outbound(null, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int replaySize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final ExecutorService sender;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Guarded by itself; also serializes id assignment and fan-out, so every queue receives events in id order
+    private final Deque<Envelope> replay = new ArrayDeque<>();
+    private long lastId = System.currentTimeMillis();
+
+    public AccountStatusStreamImplement(
+            ObjectMapper objectMapper,
+            @Value("${streams.account-status.buffer-size:256}") int bufferSize,
+            @Value("${streams.account-status.replay-size:1000}") int replaySize,
+            @Value("${streams.account-status.max-subscribers:10000}") int maxSubscribers,
+            @Value("${streams.account-status.timeout:PT30M}") Duration timeout,
+            @Value("${streams.account-status.send-threads:4}") int sendThreads
+    ) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.sender = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "account-status-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    @NonNull
+    public Optional<SseEmitter> subscribe(@Nullable Integer idAccount, @Nullable String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis), idAccount);
+        subscriber.emitter.onCompletion(subscriber::release);
+        subscriber.emitter.onTimeout(subscriber::release);
+        subscriber.emitter.onError(ex -> subscriber.release());
+
+        synchronized (replay) {
+            if (lastEventId != null) {
+                replayAfter(subscriber, lastEventId);
+            } else {
+                // Sends the response headers right away
+                subscriber.enqueue(HEARTBEAT);
+            }
+            subscribers.add(subscriber);
+        }
+        return Optional.of(subscriber.emitter);
+    }
+
+    /**
+     * Pushes a committed status change to the subscribers.
+     * Runs without a transaction too (fallbackExecution), e.g. when the change was made outside one.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(AccountStatusChangedEvent event) {
+        String data = serialize(event);
+        synchronized (replay) {
+            Envelope envelope = new Envelope(++lastId, event.idAccount(), data);
+            replay.addLast(envelope);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(envelope);
+            }
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${streams.account-status.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        sender.shutdownNow();
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Queues the buffered events after the client's last event id, or a reset when some are gone.
+     * Must hold the replay lock.
+     */
+    private void replayAfter(Subscriber subscriber, String lastEventId) {
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            last = -1;
+        }
+        long oldestBuffered = replay.isEmpty() ? lastId + 1 : replay.peekFirst().id;
+        List<Envelope> missed = new ArrayList<>();
+        if (last >= oldestBuffered - 1 && last <= lastId) {
+            for (Envelope envelope : replay) {
+                if (envelope.id > last && subscriber.matches(envelope)) {
+                    missed.add(envelope);
+                }
+            }
+        }
+        // Missed events that are gone, or more than the queue holds, cannot be replayed
+        if (last < oldestBuffered - 1 || last > lastId || missed.size() >= bufferSize) {
+            subscriber.enqueue(new Outbound(String.valueOf(lastId), RESET_EVENT, "{}"));
+            return;
+        }
+        if (missed.isEmpty()) {
+            subscriber.enqueue(HEARTBEAT);
+        }
+        missed.forEach(subscriber::offer);
+    }
+
+    private String serialize(AccountStatusChangedEvent event) {
+        AccountStatusEventDTO dto = new AccountStatusEventDTO(
+                event.idAccount(), event.previousStatus(), event.status(), event.changedAt());
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize account status event", ex);
+        }
+    }
+
+    /**
+     * A buffered event, serialized once for every subscriber.
+     */
+    private record Envelope(long id, Integer idAccount, String data) {
+    }
+
+    /**
+     * An SSE message waiting in a subscriber queue; a null name is a heartbeat comment.
+     */
+    private record Outbound(String id, String name, String data) {
+    }
+
+    /**
+     * One open connection with its bounded queue.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Integer idAccount;
+        private final BlockingQueue<Outbound> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Integer idAccount) {
+            this.emitter = emitter;
+            this.idAccount = idAccount;
+        }
+
+        /**
+         * Queues an event if it matches the account filter.
+         * @return true if the event was queued
+         */
+        private boolean offer(Envelope envelope) {
+            if (!matches(envelope)) {
+                return false;
+            }
+            return enqueue(new Outbound(String.valueOf(envelope.id), STATUS_EVENT, envelope.data));
+        }
+
+        private boolean matches(Envelope envelope) {
+            return idAccount == null || idAccount.equals(envelope.idAccount);
+        }
+
+        private boolean enqueue(Outbound message) {
+            if (closed.get()) {
+                return false;
+            }
+            if (!queue.offer(message)) {
+                // Heartbeats are optional; a full queue of events means the client is too slow
+                if (message != HEARTBEAT) {
+                    close();
+                }
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+            return true;
+        }
+
+        private void drain() {
+            try {
+                Outbound message;
+                while (!closed.get() && (message = queue.poll()) != null) {
+                    emitter.send(message.name == null
+                            ? SseEmitter.event().comment("keepalive")
+                            : SseEmitter.event().id(message.id).name(message.name).data(message.data));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away or the emitter already completed
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /**
+         * Ends the subscription from the server side.
+         */
+        private void close() {
+            if (release()) {
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Drops the subscription once the emitter is done (completed, timed out or failed).
+         * @return true if this call released it
+         */
+        private boolean release() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.remove(this);
+            queue.clear();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.quality.service.implement;
+
+import com.quality.model.ActivationStatus;
+import com.quality.repository.IAccountActivationRepository;
+import com.quality.repository.projection.AccountActivationSummary;
+import com.quality.service.ActivationCounts;
+import com.quality.service.IActivationCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of IActivationCounterService.
+ * Keeps one sliding window per account: 60 one-minute buckets in a ring, reused as time advances.
+ * The map is sharded by account id (ConcurrentHashMap bins) and each window has its own lock,
+ * so concurrent attempts only contend when they target the same account.
+ * Lookups sum a fixed number of buckets and never touch the database.
+ * Counters are rebuilt from the last hour of the audit table at startup; attempts committed
+ * while the rebuild query runs may be counted twice, which errs on the side of security checks.
+ * Follows Single Responsibility Principle (SRP) - only counts recent activation attempts.
+ */
+@Service
+public class ActivationCounterServiceImplement implements IActivationCounterService {
+
+    private static final int BUCKETS = (int) WINDOW.toMinutes();
+
+    private final IAccountActivationRepository repo;
+    private final Clock clock;
+    private final Map<Integer, SlidingWindow> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ActivationCounterServiceImplement(IAccountActivationRepository repo) {
+        // Attempt dates are LocalDateTime.now() in the default zone, so the counters read the same clock
+        this(repo, Clock.systemDefaultZone());
+    }
+
+    ActivationCounterServiceImplement(IAccountActivationRepository repo, Clock clock) {
+        this.repo = repo;
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    }
+
+    @Override
+    public void record(@NonNull Integer idAccount, @NonNull ActivationStatus status, @NonNull LocalDateTime attemptDate) {
+        Objects.requireNonNull(idAccount, "Account ID cannot be null");
+        Objects.requireNonNull(status, "Activation status cannot be null");
+        Objects.requireNonNull(attemptDate, "Attempt date cannot be null");
+        long now = currentMinute();
+        long minute = Math.min(toMinute(attemptDate), now);
+        if (minute <= now - BUCKETS) {
+            return;
+        }
+        // compute() keeps the update atomic with respect to purgeIdle() removing the same account
+        windows.compute(idAccount, (key, window) -> {
+            SlidingWindow target = window != null ? window : new SlidingWindow();
+            target.add(minute, status);
+            return target;
+        });
+    }
+
+    @Override
+    @NonNull
+    public ActivationCounts getCounts(@NonNull Integer idAccount) {
+        Objects.requireNonNull(idAccount, "Account ID cannot be null");
+        SlidingWindow window = windows.get(idAccount);
+        if (window == null) {
+            return new ActivationCounts(idAccount, WINDOW, 0, 0);
+        }
+        return window.counts(idAccount, currentMinute());
+    }
+
+    @Override
+    public long countRecentFailures(@NonNull Integer idAccount) {
+        return getCounts(idAccount).failedCount();
+    }
+
+    /**
+     * Rebuilds the counters from the attempts of the last window.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now(clock).minus(WINDOW);
+        for (AccountActivationSummary attempt : repo.findSummariesSince(since)) {
+            record(attempt.getIdAccount(), attempt.getActivationStatus(), attempt.getAttemptDate());
+        }
+    }
+
+    /**
+     * Drops the windows of accounts without attempts in the last window, so memory
+     * is proportional to the recently active accounts only.
+     */
+    @Scheduled(fixedDelayString = "${activation.counters.purge-interval:PT10M}")
+    public void purgeIdle() {
+        long now = currentMinute();
+        for (Integer idAccount : windows.keySet()) {
+            windows.computeIfPresent(idAccount, (key, window) -> window.isIdle(now) ? null : window);
+        }
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    private long currentMinute() {
+        return toMinute(LocalDateTime.now(clock));
+    }
+
+    private static long toMinute(LocalDateTime dateTime) {
+        // Attempt dates are stored as local date-times; both sides use the same conversion
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * Ring of one-minute buckets for one account.
+     */
+    private static final class SlidingWindow {
+        private final long[] minutes = new long[BUCKETS];
+        private final long[] successes = new long[BUCKETS];
+        private final long[] failures = new long[BUCKETS];
+        private long lastMinute;
+
+        synchronized void add(long minute, ActivationStatus status) {
+            int index = (int) Math.floorMod(minute, (long) BUCKETS);
+            if (minutes[index] != minute) {
+                // The bucket still holds an expired minute: reuse it
+                minutes[index] = minute;
+                successes[index] = 0;
+                failures[index] = 0;
+            }
+            if (status == ActivationStatus.SUCCESS) {
+                successes[index]++;
+            } else {
+                failures[index]++;
+            }
+            lastMinute = Math.max(lastMinute, minute);
+        }
+
+        synchronized ActivationCounts counts(Integer idAccount, long now) {
+            long success = 0;
+            long failed = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (minutes[i] > now - BUCKETS && minutes[i] <= now) {
+                    success += successes[i];
+                    failed += failures[i];
+                }
+            }
+            return new ActivationCounts(idAccount, WINDOW, success, failed);
+        }
+
+        synchronized boolean isIdle(long now) {
+            return lastMinute <= now - BUCKETS;
+        }
+    }
+}
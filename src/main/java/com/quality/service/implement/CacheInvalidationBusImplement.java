@@ -0,0 +1,54 @@
+package com.quality.service.implement;
+
+import com.quality.service.EntityInvalidatedEvent;
+import com.quality.service.ICacheInvalidationBus;
+import com.quality.service.ICacheInvalidationTransport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * Implementation of ICacheInvalidationBus.
+ * Inside a transaction, the invalidation is handed to the transport before commit, so it travels with
+ * the write (PostgreSQL delivers NOTIFY only on commit) without a second connection, and local caches
+ * are evicted after commit, so a reader cannot reload the old state between eviction and commit.
+ * Without a transport bean (cache.invalidation.transport=none) only the local caches are evicted.
+ * Follows Single Responsibility Principle (SRP) - only propagates cache invalidations.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationBusImplement implements ICacheInvalidationBus {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ICacheInvalidationTransport> transport;
+
+    @Override
+    public void publish(@NonNull String resourceType, @Nullable Object id) {
+        Objects.requireNonNull(resourceType, "Resource type cannot be null");
+        EntityInvalidatedEvent event = new EntityInvalidatedEvent(resourceType, id != null ? String.valueOf(id) : null);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(event);
+            transport.ifAvailable(remote -> remote.send(event));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                transport.ifAvailable(remote -> remote.send(event));
+            }
+
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(event);
+            }
+        });
+    }
+}
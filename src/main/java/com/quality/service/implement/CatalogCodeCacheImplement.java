@@ -0,0 +1,97 @@
+package com.quality.service.implement;
+
+import com.quality.model.Currency;
+import com.quality.model.TypeAccount;
+import com.quality.repository.ICurrencyRepository;
+import com.quality.repository.ITypeAccountRepository;
+import com.quality.service.ICatalogCodeCache;
+import com.quality.service.ICatalogVersionService;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of ICatalogCodeCache.
+ * Each catalog is kept as an immutable ID-to-code snapshot tagged with the catalog version it was
+ * loaded at. A lookup compares that tag with the current version and reloads the whole catalog
+ * when it changed, so writes through the catalog services are visible on the next lookup.
+ * The version is read before loading: a write racing with a reload leaves an older tag behind
+ * and triggers another reload instead of hiding the change.
+ * Follows Single Responsibility Principle (SRP) - only resolves catalog codes.
+ */
+@Service
+public class CatalogCodeCacheImplement implements ICatalogCodeCache {
+
+    private final ICatalogVersionService catalogVersionService;
+    private final CatalogSnapshot typeAccounts;
+    private final CatalogSnapshot currencies;
+
+    public CatalogCodeCacheImplement(
+            ICatalogVersionService catalogVersionService,
+            ITypeAccountRepository typeAccountRepository,
+            ICurrencyRepository currencyRepository
+    ) {
+        this.catalogVersionService = catalogVersionService;
+        this.typeAccounts = new CatalogSnapshot(ICatalogVersionService.TYPE_ACCOUNTS, () -> {
+            Map<Integer, String> codes = new HashMap<>();
+            for (TypeAccount typeAccount : typeAccountRepository.findAll()) {
+                codes.put(typeAccount.getIdTypeAccount(), typeAccount.getCode());
+            }
+            return codes;
+        });
+        this.currencies = new CatalogSnapshot(ICatalogVersionService.CURRENCIES, () -> {
+            Map<Integer, String> codes = new HashMap<>();
+            for (Currency currency : currencyRepository.findAll()) {
+                codes.put(currency.getIdCurrency(), currency.getCode());
+            }
+            return codes;
+        });
+    }
+
+    @Override
+    @Nullable
+    public String typeAccountCode(@NonNull Integer idTypeAccount) {
+        Objects.requireNonNull(idTypeAccount, "Type account ID cannot be null");
+        return typeAccounts.codes().get(idTypeAccount);
+    }
+
+    @Override
+    @Nullable
+    public String currencyCode(@NonNull Integer idCurrency) {
+        Objects.requireNonNull(idCurrency, "Currency ID cannot be null");
+        return currencies.codes().get(idCurrency);
+    }
+
+    /**
+     * Codes of one catalog, reloaded when the catalog version moves.
+     */
+    private final class CatalogSnapshot {
+        private final String catalog;
+        private final Supplier<Map<Integer, String>> loader;
+        private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+        private CatalogSnapshot(String catalog, Supplier<Map<Integer, String>> loader) {
+            this.catalog = catalog;
+            this.loader = loader;
+        }
+
+        private Map<Integer, String> codes() {
+            long version = catalogVersionService.currentVersion(catalog);
+            Snapshot snapshot = current.get();
+            if (snapshot == null || snapshot.version != version) {
+                snapshot = new Snapshot(version, Map.copyOf(loader.get()));
+                current.set(snapshot);
+            }
+            return snapshot.codes;
+        }
+    }
+
+    private record Snapshot(long version, Map<Integer, String> codes) {
+    }
+}
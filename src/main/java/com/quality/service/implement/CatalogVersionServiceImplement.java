@@ -0,0 +1,110 @@
+package com.quality.service.implement;
+
+import com.quality.service.ICatalogVersionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of ICatalogVersionService.
+ * ETags are a hash of the catalog rows computed by the database, so every node issues the same
+ * ETag for the same content, and an ETag never comes back for different content.
+ * The hash is computed once per local version: a bump (local write or cross-node invalidation)
+ * makes the next ETag request hash the catalog again.
+ * Follows Single Responsibility Principle (SRP) - only tracks catalog versions.
+ */
+@Service
+public class CatalogVersionServiceImplement implements ICatalogVersionService {
+
+    /**
+     * Hash of every column of every row, in primary key order.
+     */
+    private static final Map<String, String> CONTENT_HASHES = Map.of(
+            TYPE_DOCUMENTS, contentHash("type_document", "id_type_document"),
+            CURRENCIES, contentHash("currency", "id_currency"),
+            TYPE_ACCOUNTS, contentHash("type_account", "id_type_account")
+    );
+
+    private static final int HASH_LENGTH = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, VersionedETag> etags = new ConcurrentHashMap<>();
+
+    public CatalogVersionServiceImplement(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void bump(@NonNull String catalog) {
+        counter(catalog).incrementAndGet();
+    }
+
+    @Override
+    public long currentVersion(@NonNull String catalog) {
+        return counter(catalog).get();
+    }
+
+    @Override
+    @NonNull
+    public String currentETag(@NonNull String catalog) {
+        long version = currentVersion(catalog);
+        VersionedETag cached = etags.get(catalog);
+        if (cached != null && cached.version == version) {
+            return cached.etag;
+        }
+        // Read after the version: a bump during the query leaves this entry stale, so the next call hashes again
+        String etag = "\"" + catalog + "-" + hash(catalog) + "\"";
+        etags.put(catalog, new VersionedETag(version, etag));
+        return etag;
+    }
+
+    @Override
+    public boolean matches(@Nullable String ifNoneMatch, @NonNull String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            // If-None-Match uses weak comparison (RFC 9110, section 13.1.2)
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String hash(String catalog) {
+        String sql = CONTENT_HASHES.get(catalog);
+        if (sql == null) {
+            throw new IllegalArgumentException("Unknown catalog: " + catalog);
+        }
+        String hash = jdbcTemplate.queryForObject(sql, String.class);
+        return Objects.requireNonNull(hash, "Catalog hash cannot be null").substring(0, HASH_LENGTH);
+    }
+
+    private static String contentHash(String table, String idColumn) {
+        return "SELECT md5(coalesce(string_agg(t::text, ',' ORDER BY t." + idColumn + "), '')) FROM " + table + " t";
+    }
+
+    private AtomicLong counter(@NonNull String catalog) {
+        Objects.requireNonNull(catalog, "Catalog name cannot be null");
+        return versions.computeIfAbsent(catalog, key -> new AtomicLong());
+    }
+
+    private record VersionedETag(long version, String etag) {
+    }
+}
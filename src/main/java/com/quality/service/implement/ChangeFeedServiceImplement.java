@@ -0,0 +1,232 @@
+package com.quality.service.implement;
+
+import com.quality.exception.validation.InvalidFieldFormatException;
+import com.quality.model.Account;
+import com.quality.model.Client;
+import com.quality.model.Tombstone;
+import com.quality.repository.IAccountRepository;
+import com.quality.repository.IClientRepository;
+import com.quality.repository.ITombstoneRepository;
+import com.quality.repository.projection.ChangeRow;
+import com.quality.service.ChangeFeedPage;
+import com.quality.service.IChangeFeedService;
+import com.quality.service.KeysetCursor;
+import com.quality.service.ResourceChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Implementation of IChangeFeedService.
+ * The token is a keyset position (changedAt, id) over modified rows (updatedAt) and tombstones.
+ * Rows are stamped by the application before their transaction commits, so a row stamped at T may
+ * become visible after a poll that already read past T. The feed therefore only returns entries older
+ * than the settle window: by then the transactions that stamped them have committed, and moving the
+ * token past them cannot skip a late commit.
+ * Tombstones are purged after the retention period. A token also carries the settled bound of the
+ * first page of its sync: a row can only be deleted after the mirror received it, so the mirror needs
+ * the tombstones after max(position, sync start). Tokens are rejected once that watermark passes
+ * the purge horizon, and a full sync can page through rows of any age.
+ * Follows Single Responsibility Principle (SRP) - only reads change feeds.
+ */
+@Service
+public class ChangeFeedServiceImplement implements IChangeFeedService {
+
+    static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    private final IClientRepository clientRepository;
+    private final IAccountRepository accountRepository;
+    private final ITombstoneRepository tombstoneRepository;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+    private final Clock clock;
+
+    @Autowired
+    public ChangeFeedServiceImplement(
+            IClientRepository clientRepository,
+            IAccountRepository accountRepository,
+            ITombstoneRepository tombstoneRepository,
+            @Value("${changes.settle-window:PT5S}") Duration settleWindow,
+            @Value("${changes.tombstone-retention:P30D}") Duration tombstoneRetention
+    ) {
+        this(clientRepository, accountRepository, tombstoneRepository, settleWindow, tombstoneRetention, Clock.systemDefaultZone());
+    }
+
+    ChangeFeedServiceImplement(
+            IClientRepository clientRepository,
+            IAccountRepository accountRepository,
+            ITombstoneRepository tombstoneRepository,
+            Duration settleWindow,
+            Duration tombstoneRetention,
+            Clock clock
+    ) {
+        this.clientRepository = clientRepository;
+        this.accountRepository = accountRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.settleWindow = settleWindow;
+        this.tombstoneRetention = tombstoneRetention;
+        this.clock = clock;
+    }
+
+    @Override
+    @NonNull
+    @Transactional(readOnly = true)
+    public ChangeFeedPage<Client> clientChanges(@Nullable String since, int limit) {
+        return read(since, limit, clientRepository::findChanges,
+                ids -> ChunkedLookup.find(ids, clientRepository::findAllWithDetailsByIdClientIn, Client::getIdClient));
+    }
+
+    @Override
+    @NonNull
+    @Transactional(readOnly = true)
+    public ChangeFeedPage<Account> accountChanges(@Nullable String since, int limit) {
+        return read(since, limit, accountRepository::findChanges,
+                ids -> ChunkedLookup.find(ids, accountRepository::findAllWithDetailsByIdAccountIn, Account::getIdAccount));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(@NonNull String resourceType, @NonNull Integer id) {
+        Objects.requireNonNull(resourceType, "Resource type cannot be null");
+        Objects.requireNonNull(id, "Resource ID cannot be null");
+        tombstoneRepository.save(new Tombstone(resourceType, id, LocalDateTime.now(clock)));
+    }
+
+    /**
+     * Deletes the tombstones older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${changes.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public void purgeTombstones() {
+        tombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now(clock).minus(tombstoneRetention));
+    }
+
+    private <T> ChangeFeedPage<T> read(
+            @Nullable String since,
+            int limit,
+            ChangeQuery query,
+            Function<Collection<Integer>, Map<Integer, T>> loader
+    ) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidFieldFormatException("limit", limit, "Must be between 1 and " + MAX_LIMIT);
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime upper = now.minus(settleWindow);
+        FeedToken token = since != null ? FeedToken.decode(since) : new FeedToken(START, upper);
+        if (token.watermark().isBefore(now.minus(tombstoneRetention))) {
+            throw new InvalidFieldFormatException("since", since,
+                    "Must not be older than the tombstone retention (" + tombstoneRetention + "); restart the sync without 'since'");
+        }
+        KeysetCursor position = token.position();
+
+        // One extra row tells whether there is a next page without a count query
+        List<ChangeRow> rows = query.find(position.getTimestamp(), position.getId(), upper, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<ChangeRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+        List<Integer> modifiedIds = page.stream().filter(row -> !row.getDeleted()).map(ChangeRow::getId).toList();
+        Map<Integer, T> items = modifiedIds.isEmpty() ? Map.of() : loader.apply(modifiedIds);
+        List<ResourceChange<T>> changes = new ArrayList<>(page.size());
+        for (ChangeRow row : page) {
+            if (row.getDeleted()) {
+                changes.add(new ResourceChange<>(row.getId(), row.getChangedAt(), null));
+                continue;
+            }
+            // A row deleted since the feed query is skipped: its tombstone comes in a later page
+            T item = items.get(row.getId());
+            if (item != null) {
+                changes.add(new ResourceChange<>(row.getId(), row.getChangedAt(), item));
+            }
+        }
+
+        FeedToken next = new FeedToken(nextPosition(position, page, hasMore, upper), token.syncStart());
+        return new ChangeFeedPage<>(changes, next.encode(), hasMore);
+    }
+
+    /**
+     * Position to resume from: the last entry returned, or the settled upper bound once the feed is
+     * drained, so idle mirrors keep a recent token instead of one that eventually exceeds the retention.
+     */
+    private static KeysetCursor nextPosition(KeysetCursor position, List<ChangeRow> page, boolean hasMore, LocalDateTime upper) {
+        KeysetCursor last = page.isEmpty()
+                ? position
+                : new KeysetCursor(page.get(page.size() - 1).getChangedAt(), page.get(page.size() - 1).getId());
+        if (hasMore || !last.getTimestamp().isBefore(upper)) {
+            return last;
+        }
+        // Every entry up to the upper bound has been returned
+        return new KeysetCursor(upper, 0);
+    }
+
+    /**
+     * Feed token: the keyset position plus the settled bound of the first page of the sync,
+     * encoded as base64 of "syncStart|position". Anything else is rejected, including bare positions.
+     */
+    record FeedToken(KeysetCursor position, LocalDateTime syncStart) {
+
+        private static final String SEPARATOR = "|";
+
+        /**
+         * Oldest point from which the holder of this token may still need tombstones.
+         */
+        LocalDateTime watermark() {
+            return position.getTimestamp().isAfter(syncStart) ? position.getTimestamp() : syncStart;
+        }
+
+        String encode() {
+            // The position token is base64, so it never contains the separator
+            String raw = syncStart + SEPARATOR + position.encode();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static FeedToken decode(String token) {
+            String raw;
+            try {
+                raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException ex) {
+                throw invalid(token);
+            }
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw invalid(token);
+            }
+            try {
+                return new FeedToken(
+                        KeysetCursor.decode("since", raw.substring(separator + 1)),
+                        LocalDateTime.parse(raw.substring(0, separator)));
+            } catch (DateTimeParseException | InvalidFieldFormatException ex) {
+                throw invalid(token);
+            }
+        }
+
+        private static InvalidFieldFormatException invalid(String token) {
+            return new InvalidFieldFormatException("since", token, "Must be a cursor returned by a previous page");
+        }
+    }
+
+    /**
+     * Change feed query of one resource type.
+     */
+    @FunctionalInterface
+    interface ChangeQuery {
+        List<ChangeRow> find(LocalDateTime sinceDate, Integer sinceId, LocalDateTime upper, int limit);
+    }
+}
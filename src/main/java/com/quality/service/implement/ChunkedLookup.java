@@ -0,0 +1,64 @@
+package com.quality.service.implement;
+
+import org.springframework.lang.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Resolves a list of keys with IN (...) queries instead of one query per key.
+ * Keys are de-duplicated and split into chunks of {@link #CHUNK_SIZE}, so a large list costs
+ * a few bounded queries and never exceeds the bind parameter limit of the driver.
+ * Applies Single Responsibility Principle (SRP) - only batches key lookups.
+ */
+public final class ChunkedLookup {
+
+    /**
+     * Maximum number of keys accepted by a batch lookup request.
+     */
+    public static final int MAX_KEYS = 1000;
+
+    /**
+     * Maximum number of keys bound to a single IN (...) query.
+     */
+    public static final int CHUNK_SIZE = 500;
+
+    private ChunkedLookup() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Runs the query for every chunk of distinct keys and indexes the results by key.
+     * Keys without a matching entity are simply absent from the result.
+     *
+     * @param keys the keys to resolve (must not be null; null keys are ignored)
+     * @param query loads the entities matching one chunk of keys (must not be null)
+     * @param keyOf extracts the key of a loaded entity (must not be null)
+     * @return the found entities by key (never null)
+     */
+    @NonNull
+    public static <K, E> Map<K, E> find(
+            @NonNull Collection<K> keys,
+            @NonNull Function<Collection<K>, List<E>> query,
+            @NonNull Function<E, K> keyOf
+    ) {
+        Objects.requireNonNull(keys, "Keys cannot be null");
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.removeIf(Objects::isNull);
+
+        Map<K, E> found = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<K> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            for (E entity : query.apply(chunk)) {
+                found.put(keyOf.apply(entity), entity);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,36 @@
+package com.quality.service.implement;
+
+import com.quality.model.Client;
+import com.quality.repository.IAccountRepository;
+import com.quality.service.ClientOverview;
+import com.quality.service.IClientOverviewService;
+import com.quality.service.IClientService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Implementation of IClientOverviewService.
+ * Two indexed queries per overview: the client by primary key and its accounts by
+ * account.id_client, each with its last activation attempt.
+ * Follows Dependency Inversion Principle (DIP) - depends on service and repository abstractions.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientOverviewServiceImplement implements IClientOverviewService {
+
+    private final IClientService clientService;
+    private final IAccountRepository accountRepository;
+
+    @Override
+    @NonNull
+    @Transactional(readOnly = true)
+    public ClientOverview findOverview(@NonNull Integer idClient) {
+        Objects.requireNonNull(idClient, "Client ID cannot be null");
+        Client client = clientService.findById(idClient);
+        return new ClientOverview(client, accountRepository.findSummariesByIdClient(idClient));
+    }
+}
@@ -5,16 +5,25 @@ import com.quality.model.Client;
 import com.quality.repository.IClientRepository;
 import com.quality.repository.IGenericRepository;
 import com.quality.repository.ITypeDocumentRepository;
+import com.quality.service.IChangeFeedService;
 import com.quality.service.IClientService;
+import com.quality.service.IDocumentNumberValidator;
+import com.quality.service.IUniqueConstraintService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for Client operations.
  * Extends generic CRUD operations and adds business logic for duplicate email and document validation.
+ * Duplicates are checked with queries before writing or left to the unique constraints,
+ * depending on IUniqueConstraintService; either way they are reported as DuplicateFieldException.
  * Follows Single Responsibility Principle - handles only Client-specific logic.
  */
 @Service
@@ -22,6 +31,9 @@ import java.util.Objects;
 public class ClientServiceImplement extends OperationsImplement<Client, Integer> implements IClientService {
     private final IClientRepository repository;
     private final ITypeDocumentRepository typeDocumentRepository;
+    private final IUniqueConstraintService uniqueConstraintService;
+    private final IDocumentNumberValidator documentNumberValidator;
+    private final IChangeFeedService changeFeedService;
 
     @Override
     @NonNull
@@ -35,34 +47,81 @@ public class ClientServiceImplement extends OperationsImplement<Client, Integer>
         return "Client";
     }
 
+    @Override
+    @NonNull
+    protected Stream<Client> streamAll() {
+        return repository.streamAllWithDetails();
+    }
+
     @Override
     @NonNull
     public Client save(@NonNull Client client) {
-        validateTypeDocumentExists(client.getTypeDocument().getIdTypeDocument());
-        checkDuplicateEmail(
-            Objects.requireNonNull(client.getEmail(), "Client email cannot be null"), 
-            null
-        );
-        checkDuplicateDocumentNumber(
-            Objects.requireNonNull(client.getDocumentNumber(), "Client document number cannot be null"), 
-            null
+        // Format rules come from the cached TypeDocument, so malformed documents fail before any query
+        documentNumberValidator.validate(
+            Objects.requireNonNull(client.getTypeDocument().getIdTypeDocument(), "TypeDocument ID cannot be null"),
+            Objects.requireNonNull(client.getDocumentNumber(), "Client document number cannot be null")
         );
-        return super.save(client);
+        validateTypeDocumentExists(client.getTypeDocument().getIdTypeDocument());
+        if (uniqueConstraintService.checksBeforeWrite()) {
+            checkDuplicateEmail(
+                Objects.requireNonNull(client.getEmail(), "Client email cannot be null"), 
+                null
+            );
+            checkDuplicateDocumentNumber(
+                Objects.requireNonNull(client.getDocumentNumber(), "Client document number cannot be null"), 
+                null
+            );
+        }
+        return uniqueConstraintService.write(() -> super.save(client), uniqueValues(client));
     }
 
     @Override
     @NonNull
     public Client update(@NonNull Client client, @NonNull Integer id) {
-        validateTypeDocumentExists(client.getTypeDocument().getIdTypeDocument());
-        checkDuplicateEmail(
-            Objects.requireNonNull(client.getEmail(), "Client email cannot be null"), 
-            id
+        // Format rules come from the cached TypeDocument, so malformed documents fail before any query
+        documentNumberValidator.validate(
+            Objects.requireNonNull(client.getTypeDocument().getIdTypeDocument(), "TypeDocument ID cannot be null"),
+            Objects.requireNonNull(client.getDocumentNumber(), "Client document number cannot be null")
         );
-        checkDuplicateDocumentNumber(
-            Objects.requireNonNull(client.getDocumentNumber(), "Client document number cannot be null"), 
-            id
+        validateTypeDocumentExists(client.getTypeDocument().getIdTypeDocument());
+        if (uniqueConstraintService.checksBeforeWrite()) {
+            checkDuplicateEmail(
+                Objects.requireNonNull(client.getEmail(), "Client email cannot be null"), 
+                id
+            );
+            checkDuplicateDocumentNumber(
+                Objects.requireNonNull(client.getDocumentNumber(), "Client document number cannot be null"), 
+                id
+            );
+        }
+        return uniqueConstraintService.write(() -> super.update(client, id), uniqueValues(client));
+    }
+
+    /**
+     * Deletes the client and records its tombstone in the same transaction, so the change feed reports the delete.
+     */
+    @Override
+    @Transactional
+    public void delete(@NonNull Integer id) {
+        super.delete(id);
+        changeFeedService.recordDeletion(getResourceType(), id);
+    }
+
+    @Override
+    @NonNull
+    @Transactional(readOnly = true)
+    public Map<Integer, Client> findAllByIds(@NonNull Collection<Integer> ids) {
+        return ChunkedLookup.find(ids, repository::findAllWithDetailsByIdClientIn, Client::getIdClient);
+    }
+
+    /**
+     * Submitted values of the unique fields, reported back when a unique constraint is violated.
+     */
+    private static Map<String, Object> uniqueValues(Client client) {
+        return Map.of(
+            "email", Objects.requireNonNull(client.getEmail(), "Client email cannot be null"),
+            "documentNumber", Objects.requireNonNull(client.getDocumentNumber(), "Client document number cannot be null")
         );
-        return super.update(client, id);
     }
 
     /**
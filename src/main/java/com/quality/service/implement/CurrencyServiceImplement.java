@@ -32,4 +32,9 @@ public class CurrencyServiceImplement extends OperationsImplement<Currency, Inte
     protected String getResourceType() {
         return "Currency";
     }
+    
+    @Override
+    protected boolean hasNodeLocalCache() {
+        return true;
+    }
 }
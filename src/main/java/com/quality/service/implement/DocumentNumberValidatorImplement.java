@@ -0,0 +1,210 @@
+package com.quality.service.implement;
+
+import com.quality.exception.validation.InvalidFieldFormatException;
+import com.quality.model.TypeDocument;
+import com.quality.repository.ITypeDocumentRepository;
+import com.quality.service.IDocumentNumberValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Implementation of IDocumentNumberValidator.
+ * Each type document is compiled once into a Rule (lengths plus a matcher) and cached by ID; the
+ * active type documents are loaded at startup, so validation normally needs no database access.
+ * Digit-only patterns such as \d{8}, ^[0-9]{8,11}$ or \d+ get a hand-written scanner instead of a
+ * regex; anything else is compiled to a java.util.regex.Pattern.
+ * Only existing type documents are cached, so probing unknown IDs does not grow the cache.
+ * Follows Single Responsibility Principle (SRP) - only validates document numbers.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentNumberValidatorImplement implements IDocumentNumberValidator {
+
+    static final String FIELD_NAME = "documentNumber";
+
+    /**
+     * Digit-only patterns: optional anchors around \d or [0-9] with an optional {n}, {n,m}, {n,}, + or *.
+     */
+    private static final Pattern DIGITS_PATTERN =
+            Pattern.compile("^\\^?(?:\\\\d|\\[0-9])(?:\\{(\\d+)(,(\\d*))?}|([+*]))?\\$?$");
+
+    private final ITypeDocumentRepository typeDocumentRepository;
+    private final Map<Integer, Rule> rules = new ConcurrentHashMap<>();
+
+    @Override
+    public void validate(@NonNull Integer idTypeDocument, @NonNull String documentNumber) {
+        Objects.requireNonNull(idTypeDocument, "Type document ID cannot be null");
+        Objects.requireNonNull(documentNumber, "Document number cannot be null");
+        Rule rule = rules.get(idTypeDocument);
+        if (rule == null) {
+            rule = typeDocumentRepository.findById(idTypeDocument)
+                    .map(typeDocument -> rules.computeIfAbsent(idTypeDocument, id -> compile(typeDocument)))
+                    .orElse(Rule.NONE);
+        }
+        if (!rule.accepts(documentNumber)) {
+            throw new InvalidFieldFormatException(FIELD_NAME, documentNumber, rule.description);
+        }
+    }
+
+    @Override
+    public void checkPattern(String validationPattern) {
+        if (validationPattern == null || validationPattern.isBlank()) {
+            return;
+        }
+        try {
+            Pattern.compile(validationPattern);
+        } catch (PatternSyntaxException ex) {
+            throw new InvalidFieldFormatException("validationPattern", validationPattern, "Must be a valid regular expression");
+        }
+    }
+
+    @Override
+    public void evict(@NonNull Integer idTypeDocument) {
+        rules.remove(idTypeDocument);
+    }
+
+    @Override
+    public void evictAll() {
+        rules.clear();
+    }
+
+    /**
+     * Compiles the active type documents up front.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        for (TypeDocument typeDocument : typeDocumentRepository.findByActiveTrue()) {
+            rules.putIfAbsent(typeDocument.getIdTypeDocument(), compile(typeDocument));
+        }
+    }
+
+    static Rule compile(TypeDocument typeDocument) {
+        if (!Boolean.TRUE.equals(typeDocument.getActive())) {
+            return Rule.NONE;
+        }
+        int minLength = typeDocument.getMinLength() != null ? typeDocument.getMinLength() : 0;
+        int maxLength = typeDocument.getMaxLength() != null ? typeDocument.getMaxLength() : Integer.MAX_VALUE;
+        String pattern = typeDocument.getValidationPattern();
+
+        StringBuilder description = new StringBuilder();
+        DocumentMatcher matcher = null;
+        if (pattern != null && !pattern.isBlank()) {
+            matcher = matcherFor(pattern);
+            if (matcher != null) {
+                description.append("Must match pattern ").append(pattern);
+            }
+        }
+        if (minLength > 0 || maxLength < Integer.MAX_VALUE) {
+            description.append(description.length() > 0 ? " and have " : "Must have ");
+            if (maxLength == Integer.MAX_VALUE) {
+                description.append("at least ").append(minLength);
+            } else if (minLength == maxLength) {
+                description.append("exactly ").append(minLength);
+            } else {
+                description.append(minLength).append(" to ").append(maxLength);
+            }
+            description.append(" characters");
+        }
+        return new Rule(minLength, maxLength, matcher, description.toString());
+    }
+
+    /**
+     * Builds the matcher of a pattern: a digit scanner when possible, a compiled regex otherwise.
+     * Returns null for a pattern that does not compile, which then imposes no format.
+     */
+    @Nullable
+    static DocumentMatcher matcherFor(String pattern) {
+        Matcher digits = DIGITS_PATTERN.matcher(pattern.trim());
+        if (digits.matches()) {
+            if (digits.group(4) != null) {
+                return new DigitsMatcher("+".equals(digits.group(4)) ? 1 : 0, Integer.MAX_VALUE);
+            }
+            if (digits.group(1) == null) {
+                return new DigitsMatcher(1, 1);
+            }
+            int min = Integer.parseInt(digits.group(1));
+            int max = digits.group(2) == null ? min
+                    : digits.group(3).isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(digits.group(3));
+            return new DigitsMatcher(min, max);
+        }
+
+        try {
+            Pattern compiled = Pattern.compile(pattern);
+            return value -> compiled.matcher(value).matches();
+        } catch (PatternSyntaxException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Full-match test of a document number.
+     */
+    @FunctionalInterface
+    interface DocumentMatcher {
+        boolean matches(String value);
+    }
+
+    /**
+     * Matches [0-9]{min,max} without regex; \d in Java patterns is ASCII-only as well.
+     */
+    static final class DigitsMatcher implements DocumentMatcher {
+        private final int min;
+        private final int max;
+
+        DigitsMatcher(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            int length = value.length();
+            if (length < min || length > max) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Compiled rules of one type document.
+     */
+    static final class Rule {
+        static final Rule NONE = new Rule(0, Integer.MAX_VALUE, null, "");
+
+        private final int minLength;
+        private final int maxLength;
+        private final DocumentMatcher matcher;
+        private final String description;
+
+        Rule(int minLength, int maxLength, @Nullable DocumentMatcher matcher, String description) {
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.matcher = matcher;
+            this.description = description;
+        }
+
+        boolean accepts(String documentNumber) {
+            int length = documentNumber.length();
+            return length >= minLength && length <= maxLength
+                    && (matcher == null || matcher.matches(documentNumber));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.quality.service.implement;
+
+import com.quality.service.IIdempotencyStore;
+import com.quality.service.IdempotencyClaim;
+import com.quality.service.IdempotentResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single-node implementation of IIdempotencyStore.
+ * Keys live in a ConcurrentHashMap and in a FIFO queue in claim order. All keys share the same TTL,
+ * so the head of the queue is always the next key to expire and eviction never scans the map.
+ * The store is bounded by the queue, not the map: released keys and claims taken over leave their
+ * node in the queue until it reaches the head, so once the queue holds more than max-entries nodes
+ * the oldest ones are dropped early, whether or not their key is still in the map.
+ * Follows Single Responsibility Principle (SRP) - only stores idempotency keys.
+ */
+@Service
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStoreImplement implements IIdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() walks the whole queue
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long inProgressTimeoutMillis;
+    private final int maxEntries;
+
+    @Autowired
+    public InMemoryIdempotencyStoreImplement(
+            @Value("${idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${idempotency.in-progress-timeout:PT1M}") Duration inProgressTimeout,
+            @Value("${idempotency.max-entries:10000}") int maxEntries
+    ) {
+        this(Clock.systemUTC(), ttl, inProgressTimeout, maxEntries);
+    }
+
+    InMemoryIdempotencyStoreImplement(Clock clock, Duration ttl, Duration inProgressTimeout, int maxEntries) {
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        this.ttlMillis = ttl.toMillis();
+        this.inProgressTimeoutMillis = inProgressTimeout.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    @NonNull
+    public IdempotencyClaim claim(@NonNull String key, @NonNull String requestHash) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(requestHash, "Request hash cannot be null");
+        long now = clock.millis();
+        Entry created = new Entry(key, requestHash, now);
+        Entry current = entries.merge(key, created, (existing, ignored) -> isReusable(existing, now) ? created : existing);
+        if (current == created) {
+            order.add(created);
+            queued.incrementAndGet();
+            evict(now);
+            return IdempotencyClaim.claimed();
+        }
+
+        if (!current.requestHash.equals(requestHash)) {
+            return IdempotencyClaim.mismatch();
+        }
+        IdempotentResponse response = current.response;
+        return response != null ? IdempotencyClaim.completed(response) : IdempotencyClaim.inProgress();
+    }
+
+    @Override
+    public void complete(@NonNull String key, @NonNull IdempotentResponse response) {
+        Objects.requireNonNull(response, "Response cannot be null");
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.response = response;
+        }
+    }
+
+    @Override
+    public void release(@NonNull String key) {
+        // A key that already has a response is kept, so a late release cannot drop it
+        entries.computeIfPresent(key, (k, entry) -> entry.response == null ? null : entry);
+    }
+
+    /**
+     * Drops expired keys even when no new key is claimed.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1M}")
+    public void purgeExpired() {
+        evict(clock.millis());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int queuedSize() {
+        return queued.get();
+    }
+
+    private boolean isReusable(Entry entry, long now) {
+        return now - entry.claimedAt >= ttlMillis
+                || (entry.response == null && now - entry.claimedAt >= inProgressTimeoutMillis);
+    }
+
+    private void evict(long now) {
+        synchronized (order) {
+            Entry head;
+            while ((head = order.peek()) != null
+                    && (now - head.claimedAt >= ttlMillis || queued.get() > maxEntries)) {
+                order.poll();
+                queued.decrementAndGet();
+                // Only removes the key if it was not claimed again since
+                entries.remove(head.key, head);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final String requestHash;
+        private final long claimedAt;
+        private volatile IdempotentResponse response;
+
+        private Entry(String key, String requestHash, long claimedAt) {
+            this.key = key;
+            this.requestHash = requestHash;
+            this.claimedAt = claimedAt;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.quality.service.implement;
+
+import com.quality.service.IIdempotencyStore;
+import com.quality.service.IdempotencyClaim;
+import com.quality.service.IdempotentResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Multi-node implementation of IIdempotencyStore backed by the idempotency_key table (V4 and V6 migrations).
+ * A claim is a single INSERT ... ON CONFLICT, so concurrent nodes agree on one owner per key.
+ * All times come from the database clock, so node clock skew does not affect expiry.
+ * Follows Single Responsibility Principle (SRP) - only stores idempotency keys.
+ */
+@Service
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStoreImplement implements IIdempotencyStore {
+
+    /**
+     * Inserts the key, or takes over an expired or abandoned one; updates no row while the key is held.
+     */
+    private static final String CLAIM = """
+            INSERT INTO idempotency_key (idempotency_key, request_hash, claimed_at, expires_at)
+            VALUES (?, ?, now(), now() + make_interval(secs => ?))
+            ON CONFLICT (idempotency_key) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash,
+                    claimed_at = EXCLUDED.claimed_at, expires_at = EXCLUDED.expires_at,
+                    response_status = NULL, content_type = NULL, location = NULL, body = NULL
+                WHERE idempotency_key.expires_at <= now()
+                   OR (idempotency_key.response_status IS NULL
+                       AND idempotency_key.claimed_at <= now() - make_interval(secs => ?))""";
+
+    private static final String FIND = """
+            SELECT request_hash, response_status, content_type, location, body
+            FROM idempotency_key
+            WHERE idempotency_key = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double ttlSeconds;
+    private final double inProgressTimeoutSeconds;
+
+    public JdbcIdempotencyStoreImplement(
+            JdbcTemplate jdbcTemplate,
+            @Value("${idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${idempotency.in-progress-timeout:PT1M}") Duration inProgressTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlSeconds = ttl.toMillis() / 1000.0;
+        this.inProgressTimeoutSeconds = inProgressTimeout.toMillis() / 1000.0;
+    }
+
+    @Override
+    @NonNull
+    public IdempotencyClaim claim(@NonNull String key, @NonNull String requestHash) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(requestHash, "Request hash cannot be null");
+        while (true) {
+            if (jdbcTemplate.update(CLAIM, key, requestHash, ttlSeconds, inProgressTimeoutSeconds) == 1) {
+                return IdempotencyClaim.claimed();
+            }
+
+            List<IdempotencyClaim> existing = jdbcTemplate.query(FIND, (rs, rowNum) -> {
+                // Keys claimed before V6 have no hash and are compared as a mismatch until they expire
+                if (!requestHash.equals(rs.getString("request_hash"))) {
+                    return IdempotencyClaim.mismatch();
+                }
+                int status = rs.getInt("response_status");
+                if (rs.wasNull()) {
+                    return IdempotencyClaim.inProgress();
+                }
+                byte[] body = rs.getBytes("body");
+                return IdempotencyClaim.completed(new IdempotentResponse(
+                        status,
+                        rs.getString("content_type"),
+                        rs.getString("location"),
+                        body != null ? body : new byte[0]));
+            }, key);
+            if (!existing.isEmpty()) {
+                return existing.get(0);
+            }
+            // Released or purged between both statements: try to claim again
+        }
+    }
+
+    @Override
+    public void complete(@NonNull String key, @NonNull IdempotentResponse response) {
+        Objects.requireNonNull(response, "Response cannot be null");
+        jdbcTemplate.update(
+                "UPDATE idempotency_key SET response_status = ?, content_type = ?, location = ?, body = ? "
+                        + "WHERE idempotency_key = ?",
+                response.status(), response.contentType(), response.location(), response.body(), key);
+    }
+
+    @Override
+    public void release(@NonNull String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE idempotency_key = ? AND response_status IS NULL", key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1M}")
+    public void purgeExpired() {
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE expires_at <= now()");
+    }
+}
@@ -0,0 +1,55 @@
+package com.quality.service.implement;
+
+import com.quality.service.EntityInvalidatedEvent;
+import com.quality.service.ICatalogVersionService;
+import com.quality.service.IDocumentNumberValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the node-local caches affected by an invalidation, whichever node made the change:
+ * catalog versions (ETags and the catalog code cache follow them) and the compiled document rules.
+ * Only services with hasNodeLocalCache publish invalidations; any other resource type is ignored.
+ * Follows Single Responsibility Principle (SRP) - only maps invalidations to local caches.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalCacheEvictionListener {
+
+    private final ICatalogVersionService catalogVersionService;
+    private final IDocumentNumberValidator documentNumberValidator;
+
+    @EventListener
+    public void onInvalidated(EntityInvalidatedEvent event) {
+        switch (event.resourceType()) {
+            case "TypeDocument" -> {
+                evictDocumentRules(event.id());
+                catalogVersionService.bump(ICatalogVersionService.TYPE_DOCUMENTS);
+            }
+            case "Currency" -> catalogVersionService.bump(ICatalogVersionService.CURRENCIES);
+            case "TypeAccount" -> catalogVersionService.bump(ICatalogVersionService.TYPE_ACCOUNTS);
+            case EntityInvalidatedEvent.ALL -> {
+                documentNumberValidator.evictAll();
+                catalogVersionService.bump(ICatalogVersionService.TYPE_DOCUMENTS);
+                catalogVersionService.bump(ICatalogVersionService.CURRENCIES);
+                catalogVersionService.bump(ICatalogVersionService.TYPE_ACCOUNTS);
+            }
+            default -> {
+                // No node-local cache for this resource type
+            }
+        }
+    }
+
+    private void evictDocumentRules(String id) {
+        if (id == null) {
+            // A new type document: nothing cached under its ID yet
+            return;
+        }
+        try {
+            documentNumberValidator.evict(Integer.valueOf(id));
+        } catch (NumberFormatException ex) {
+            documentNumberValidator.evictAll();
+        }
+    }
+}
@@ -3,22 +3,47 @@ package com.quality.service.implement;
 import com.quality.exception.resource.ResourceNotFoundAfterOperationException;
 import com.quality.exception.resource.ResourceNotFoundByIdException;
 import com.quality.repository.IGenericRepository;
+import com.quality.service.ICacheInvalidationBus;
 import com.quality.service.IOperations;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Abstract base class implementing generic CRUD operations.
  * Applies Template Method Pattern - defines the algorithm structure, 
  * delegates repository access to subclasses via getRepo().
  * Follows Open/Closed Principle (OCP) - open for extension, closed for modification.
+ * Query methods run in read-only transactions: the session uses FlushMode.MANUAL and loads
+ * entities read-only, so Hibernate keeps no snapshot for dirty checking and never flushes.
+ * Entities returned by them must not be modified in place; writes go through save/update.
+ * forEach reads from streamAll and clears the persistence context every STREAM_CHUNK_SIZE entities,
+ * so the heap holds one chunk whatever the size of the table.
+ * Writes of resource types with node-local caches (see hasNodeLocalCache) are announced on the cache
+ * invalidation bus, so those caches are evicted on all nodes once the write commits.
  * 
  * @param <T> Entity type
  * @param <ID> ID type
  */
 public abstract class OperationsImplement<T, ID> implements IOperations<T, ID> {
+
+    private ICacheInvalidationBus cacheInvalidationBus;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired(required = false)
+    public void setCacheInvalidationBus(ICacheInvalidationBus cacheInvalidationBus) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
     
     /**
      * Template method for repository access.
@@ -43,7 +68,9 @@ public abstract class OperationsImplement<T, ID> implements IOperations<T, ID> {
     @NonNull
     public T save(@NonNull T t) {
         IGenericRepository<T, ID> repo = Objects.requireNonNull(getRepo(), "Repository cannot be null");
-        return repo.save(t);
+        T saved = repo.save(t);
+        invalidate(null);
+        return saved;
     }
 
     @Override
@@ -52,23 +79,56 @@ public abstract class OperationsImplement<T, ID> implements IOperations<T, ID> {
         IGenericRepository<T, ID> repo = Objects.requireNonNull(getRepo(), "Repository cannot be null");
         repo.findById(id).orElseThrow(() -> 
             new ResourceNotFoundAfterOperationException(getResourceType(), id, "update"));
-        return repo.save(t);
+        T updated = repo.save(t);
+        invalidate(id);
+        return updated;
     }
 
     @Override
     @NonNull
+    @Transactional(readOnly = true)
     public List<T> findAll() {
         IGenericRepository<T, ID> repo = Objects.requireNonNull(getRepo(), "Repository cannot be null");
         return repo.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(@NonNull Consumer<T> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        try (Stream<T> stream = streamAll()) {
+            Iterator<T> iterator = stream.iterator();
+            int inChunk = 0;
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                if (++inChunk == IGenericRepository.STREAM_CHUNK_SIZE) {
+                    // Visited entities are no longer needed: detach them before the next chunk is fetched
+                    entityManager.clear();
+                    inChunk = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Source of forEach. The default loads the whole table; override with a streaming repository
+     * query for tables that can grow large.
+     * @return all entities (never null)
+     */
+    @NonNull
+    protected Stream<T> streamAll() {
+        return findAll().stream();
+    }
+
     /**
      * Finds an entity by ID.
+     * Runs read-only, so it is served by the read replica when routing is enabled.
      * @throws ResourceNotFoundByIdException if entity is not found
      */
     @Override
     @NonNull
     @SuppressWarnings("null") // JPA Optional.orElseThrow guarantees non-null return
+    @Transactional(readOnly = true)
     public T findById(@NonNull ID id) {
         IGenericRepository<T, ID> repo = Objects.requireNonNull(getRepo(), "Repository cannot be null");
         return repo.findById(id).orElseThrow(() -> 
@@ -81,5 +141,24 @@ public abstract class OperationsImplement<T, ID> implements IOperations<T, ID> {
         repo.findById(id).orElseThrow(() -> 
             new ResourceNotFoundAfterOperationException(getResourceType(), id, "delete"));
         repo.deleteById(id);
+        invalidate(id);
+    }
+
+    /**
+     * Whether nodes cache this resource type locally, so its writes must be announced to every node.
+     * Override in subclasses whose entities feed a node-local cache.
+     */
+    protected boolean hasNodeLocalCache() {
+        return false;
+    }
+
+    /**
+     * Announces a write of this resource type; the bus defers it until the transaction commits.
+     * @param id the ID of the written entity, or null for a new one
+     */
+    protected void invalidate(ID id) {
+        if (cacheInvalidationBus != null && hasNodeLocalCache()) {
+            cacheInvalidationBus.publish(getResourceType(), id);
+        }
     }
 }
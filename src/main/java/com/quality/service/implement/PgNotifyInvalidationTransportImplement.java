@@ -0,0 +1,264 @@
+package com.quality.service.implement;
+
+import com.quality.service.EntityInvalidatedEvent;
+import com.quality.service.ICacheInvalidationTransport;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Implementation of ICacheInvalidationTransport over PostgreSQL LISTEN/NOTIFY.
+ * Invalidations are sent with pg_notify on the caller's connection: inside the writing transaction
+ * (the bus calls send before commit) PostgreSQL delivers the NOTIFY only if it commits, and no extra
+ * connection or transaction is needed. Every node LISTENs on a dedicated connection opened with the
+ * spring.datasource settings, outside the pool, because a pooled connection would carry the
+ * subscription to unrelated work.
+ * Payloads are "origin|resourceType|id"; a node ignores its own messages, since the bus already
+ * evicted its local caches.
+ * NOTIFY is not durable: messages sent while the listener is disconnected are lost, so after every
+ * reconnect the node publishes a full resync (EntityInvalidatedEvent.ALL). Sends of already committed
+ * changes that fail are kept in a bounded queue and retried by the listener thread on its own
+ * connection; on overflow they collapse into one resync for the other nodes.
+ * Follows Single Responsibility Principle (SRP) - only transports invalidations between nodes.
+ */
+@Service
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "postgres")
+public class PgNotifyInvalidationTransportImplement implements ICacheInvalidationTransport {
+
+    private static final char SEPARATOR = '|';
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private final long maxReconnectDelayMillis;
+    private final BlockingQueue<EntityInvalidatedEvent> pending;
+    private final String origin = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public PgNotifyInvalidationTransportImplement(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${cache.invalidation.channel:cache_invalidation}") String channel,
+            @Value("${cache.invalidation.poll-timeout:PT1S}") Duration pollTimeout,
+            @Value("${cache.invalidation.reconnect-delay:PT1S}") Duration reconnectDelay,
+            @Value("${cache.invalidation.max-reconnect-delay:PT30S}") Duration maxReconnectDelay,
+            @Value("${cache.invalidation.max-pending:1000}") int maxPending
+    ) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            // The channel name is spliced into LISTEN, which takes no bind parameters
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        if (pollTimeout.isZero() || pollTimeout.isNegative()) {
+            // 0 would make getNotifications block until a message arrives
+            throw new IllegalArgumentException("Cache invalidation poll timeout must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.pollTimeoutMillis = (int) Math.min(pollTimeout.toMillis(), Integer.MAX_VALUE);
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+        this.maxReconnectDelayMillis = Math.max(maxReconnectDelay.toMillis(), reconnectDelayMillis);
+        this.pending = new ArrayBlockingQueue<>(maxPending);
+    }
+
+    @Override
+    public void send(@NonNull EntityInvalidatedEvent event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // A failure here aborts the transaction in PostgreSQL anyway, so it propagates with the write
+            sendNotification(event);
+            return;
+        }
+        try {
+            sendNotification(event);
+        } catch (DataAccessException ex) {
+            enqueue(event);
+        }
+    }
+
+    /**
+     * Starts listening once the application is ready, so no invalidation is handled half-initialized.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            // The listener leaves its poll within poll-timeout
+            listener.interrupt();
+        }
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    String origin() {
+        return origin;
+    }
+
+    /**
+     * Encodes an invalidation as a NOTIFY payload: "origin|resourceType|id", with an empty id for null.
+     */
+    static String encode(String origin, EntityInvalidatedEvent event) {
+        return origin + SEPARATOR + event.resourceType() + SEPARATOR + (event.id() != null ? event.id() : "");
+    }
+
+    /**
+     * Decodes a NOTIFY payload sent by another node.
+     * @return the invalidation, or null for malformed payloads and this node's own messages
+     */
+    @Nullable
+    static EntityInvalidatedEvent decode(String ownOrigin, @Nullable String payload) {
+        if (payload == null) {
+            return null;
+        }
+        String[] parts = payload.split(Pattern.quote(String.valueOf(SEPARATOR)), 3);
+        if (parts.length != 3 || parts[1].isEmpty() || parts[0].equals(ownOrigin)) {
+            return null;
+        }
+        return new EntityInvalidatedEvent(parts[1], parts[2].isEmpty() ? null : parts[2]);
+    }
+
+    private void sendNotification(EntityInvalidatedEvent event) {
+        jdbcTemplate.query(NOTIFY_SQL, (ResultSetExtractor<Void>) rs -> null, channel, encode(origin, event));
+    }
+
+    private void enqueue(EntityInvalidatedEvent event) {
+        if (!pending.offer(event)) {
+            // Too many lost sends to replay one by one: the other nodes drop everything instead
+            pending.clear();
+            pending.offer(new EntityInvalidatedEvent(EntityInvalidatedEvent.ALL, null));
+        }
+    }
+
+    /**
+     * Sends the queued invalidations on the listener connection, which is in auto-commit mode.
+     */
+    private void flushPending(Connection connection) throws SQLException {
+        EntityInvalidatedEvent event;
+        while ((event = pending.peek()) != null) {
+            try (PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL)) {
+                statement.setString(1, channel);
+                statement.setString(2, encode(origin, event));
+                statement.execute();
+            }
+            pending.remove(event);
+        }
+    }
+
+    private void listen() {
+        long delay = reconnectDelayMillis;
+        boolean resync = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening = true;
+                if (resync) {
+                    // Whatever was sent while disconnected is lost
+                    publish(new EntityInvalidatedEvent(EntityInvalidatedEvent.ALL, null));
+                    resync = false;
+                }
+                delay = reconnectDelayMillis;
+                poll(connection, pgConnection);
+            } catch (SQLException ex) {
+                // Connection lost or database unavailable: retry below
+            } finally {
+                listening = false;
+            }
+            if (!running) {
+                return;
+            }
+            resync = true;
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = Math.min(delay * 2, maxReconnectDelayMillis);
+        }
+    }
+
+    private void poll(Connection connection, PGConnection pgConnection) throws SQLException {
+        while (running) {
+            flushPending(connection);
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                // getNotifications cannot tell an idle channel from a half-open connection
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Cache invalidation listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                EntityInvalidatedEvent event = decode(origin, notification.getParameter());
+                if (event != null) {
+                    publish(event);
+                }
+            }
+        }
+    }
+
+    private void publish(EntityInvalidatedEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException ex) {
+            // A failing cache listener must not stop this node from receiving further invalidations
+        }
+    }
+}
@@ -32,4 +32,9 @@ public class TypeAccountServiceImplement extends OperationsImplement<TypeAccount
     protected String getResourceType() {
         return "TypeAccount";
     }
+    
+    @Override
+    protected boolean hasNodeLocalCache() {
+        return true;
+    }
 }
@@ -4,22 +4,29 @@ import com.quality.exception.validation.DuplicateFieldException;
 import com.quality.model.TypeDocument;
 import com.quality.repository.IGenericRepository;
 import com.quality.repository.ITypeDocumentRepository;
+import com.quality.service.IDocumentNumberValidator;
 import com.quality.service.ITypeDocumentService;
+import com.quality.service.IUniqueConstraintService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Service implementation for TypeDocument operations.
  * Extends generic CRUD operations and adds business logic for duplicate code validation.
+ * The pre-write code check is skipped in constraint mode (see IUniqueConstraintService).
+ * Cached rules and catalog versions are invalidated by the base class through the cache invalidation bus.
  * Follows Single Responsibility Principle - handles only TypeDocument-specific logic.
  */
 @Service
 @RequiredArgsConstructor
 public class TypeDocumentServiceImplement extends OperationsImplement<TypeDocument, Integer> implements ITypeDocumentService {
     private final ITypeDocumentRepository repository;
+    private final IUniqueConstraintService uniqueConstraintService;
+    private final IDocumentNumberValidator documentNumberValidator;
 
     @Override
     @NonNull
@@ -33,24 +40,31 @@ public class TypeDocumentServiceImplement extends OperationsImplement<TypeDocume
         return "TypeDocument";
     }
 
+    @Override
+    protected boolean hasNodeLocalCache() {
+        return true;
+    }
+
     @Override
     @NonNull
     public TypeDocument save(@NonNull TypeDocument typeDocument) {
-        checkDuplicateCode(
-            Objects.requireNonNull(typeDocument.getCode(), "TypeDocument code cannot be null"), 
-            null
-        );
-        return super.save(typeDocument);
+        String code = Objects.requireNonNull(typeDocument.getCode(), "TypeDocument code cannot be null");
+        documentNumberValidator.checkPattern(typeDocument.getValidationPattern());
+        if (uniqueConstraintService.checksBeforeWrite()) {
+            checkDuplicateCode(code, null);
+        }
+        return uniqueConstraintService.write(() -> super.save(typeDocument), Map.of("code", code));
     }
 
     @Override
     @NonNull
     public TypeDocument update(@NonNull TypeDocument typeDocument, @NonNull Integer id) {
-        checkDuplicateCode(
-            Objects.requireNonNull(typeDocument.getCode(), "TypeDocument code cannot be null"), 
-            id
-        );
-        return super.update(typeDocument, id);
+        String code = Objects.requireNonNull(typeDocument.getCode(), "TypeDocument code cannot be null");
+        documentNumberValidator.checkPattern(typeDocument.getValidationPattern());
+        if (uniqueConstraintService.checksBeforeWrite()) {
+            checkDuplicateCode(code, id);
+        }
+        return uniqueConstraintService.write(() -> super.update(typeDocument, id), Map.of("code", code));
     }
 
     /**
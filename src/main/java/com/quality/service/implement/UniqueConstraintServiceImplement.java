@@ -0,0 +1,46 @@
+package com.quality.service.implement;
+
+import com.quality.exception.validation.UniqueConstraintTranslator;
+import com.quality.service.IUniqueConstraintService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of IUniqueConstraintService.
+ * The mode is read once from persistence.duplicate-check ("query" by default).
+ * Follows Single Responsibility Principle (SRP) - only decides and translates duplicate checks.
+ */
+@Service
+public class UniqueConstraintServiceImplement implements IUniqueConstraintService {
+
+    private final boolean checksBeforeWrite;
+
+    public UniqueConstraintServiceImplement(@Value("${persistence.duplicate-check:" + MODE_QUERY + "}") String mode) {
+        if (!MODE_QUERY.equalsIgnoreCase(mode) && !MODE_CONSTRAINT.equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("persistence.duplicate-check must be '" + MODE_QUERY + "' or '"
+                    + MODE_CONSTRAINT + "', was '" + mode + "'");
+        }
+        this.checksBeforeWrite = MODE_QUERY.equalsIgnoreCase(mode);
+    }
+
+    @Override
+    public boolean checksBeforeWrite() {
+        return checksBeforeWrite;
+    }
+
+    @Override
+    public <T> T write(@NonNull Supplier<T> write, @NonNull Map<String, ?> uniqueValues) {
+        Objects.requireNonNull(write, "Write cannot be null");
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException ex) {
+            throw UniqueConstraintTranslator.translate(ex, uniqueValues).map(RuntimeException.class::cast).orElse(ex);
+        }
+    }
+}
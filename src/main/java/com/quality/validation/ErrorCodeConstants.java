@@ -20,6 +20,10 @@ public class ErrorCodeConstants {
     public static final String TYPE_CODE_VALIDATION = "TYP-003";
     public static final String TYPE_VALIDATION = "request_body_validation_error";
 
+    // Idempotency errors
+    public static final String TYPE_CODE_IDEMPOTENCY = "TYP-004";
+    public static final String TYPE_IDEMPOTENCY = "idempotency_error";
+
     // ========== Header error subtypes (TYP-001) ==========
     
     public static final String SUBTYPE_CODE_MISSING = "HDR-001";
@@ -62,6 +66,17 @@ public class ErrorCodeConstants {
     public static final String SUBTYPE_CODE_DUPLICATE_VALUE = "RBV-005";
     public static final String SUBTYPE_DUPLICATE_VALUE = "duplicate_value_detected";
 
+    public static final String SUBTYPE_CODE_INVALID_FIELD_FORMAT = "RBV-006";
+    public static final String SUBTYPE_INVALID_FIELD_FORMAT = "invalid_field_format";
+
+    // ========== Idempotency subtypes (TYP-004) ==========
+
+    public static final String SUBTYPE_CODE_REQUEST_IN_PROGRESS = "IDM-001";
+    public static final String SUBTYPE_REQUEST_IN_PROGRESS = "request_in_progress";
+
+    public static final String SUBTYPE_CODE_REQUEST_MISMATCH = "IDM-002";
+    public static final String SUBTYPE_REQUEST_MISMATCH = "request_payload_mismatch";
+
     // ========== Business logic error subtypes ==========
     
     // Account activation errors
@@ -0,0 +1,74 @@
+-- Baseline schema, equivalent to what hibernate ddl-auto=update generated from the entities.
+-- Databases created before migrations were introduced are baselined at this version
+-- (spring.flyway.baseline-on-migrate), so this script only runs on empty databases.
+-- Unique constraints are named explicitly so they can be mapped back to fields.
+
+CREATE TABLE type_document (
+    id_type_document   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    code               VARCHAR(20)  NOT NULL,
+    description        VARCHAR(100) NOT NULL,
+    validation_pattern VARCHAR(100),
+    min_length         INTEGER,
+    max_length         INTEGER,
+    active             BOOLEAN      NOT NULL,
+    CONSTRAINT uk_type_document_code UNIQUE (code)
+);
+
+CREATE TABLE currency (
+    id_currency INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    code        VARCHAR(3)  NOT NULL,
+    name        VARCHAR(50) NOT NULL,
+    symbol      VARCHAR(5)  NOT NULL,
+    active      BOOLEAN     NOT NULL,
+    CONSTRAINT uk_currency_code UNIQUE (code)
+);
+
+CREATE TABLE type_account (
+    id_type_account INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    code            VARCHAR(20)  NOT NULL,
+    description     VARCHAR(100) NOT NULL,
+    active          BOOLEAN      NOT NULL,
+    CONSTRAINT uk_type_account_code UNIQUE (code)
+);
+
+CREATE TABLE client (
+    id_client        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name       VARCHAR(50)  NOT NULL,
+    last_name        VARCHAR(50)  NOT NULL,
+    id_type_document INTEGER      NOT NULL,
+    document_number  VARCHAR(20)  NOT NULL,
+    email            VARCHAR(100) NOT NULL,
+    phone            VARCHAR(20)  NOT NULL,
+    CONSTRAINT uk_client_document_number UNIQUE (document_number),
+    CONSTRAINT uk_client_email UNIQUE (email),
+    CONSTRAINT fk_client_type_document FOREIGN KEY (id_type_document) REFERENCES type_document (id_type_document)
+);
+
+CREATE TABLE account (
+    id_account      INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_number  VARCHAR(20)    NOT NULL,
+    id_client       INTEGER        NOT NULL,
+    id_type_account INTEGER        NOT NULL,
+    id_currency     INTEGER        NOT NULL,
+    balance         NUMERIC(15, 2) NOT NULL,
+    status          VARCHAR(20)    NOT NULL,
+    created_date    TIMESTAMP(6)   NOT NULL,
+    activated_date  TIMESTAMP(6),
+    CONSTRAINT uk_account_account_number UNIQUE (account_number),
+    CONSTRAINT fk_account_client FOREIGN KEY (id_client) REFERENCES client (id_client),
+    CONSTRAINT fk_account_type_account FOREIGN KEY (id_type_account) REFERENCES type_account (id_type_account),
+    CONSTRAINT fk_account_currency FOREIGN KEY (id_currency) REFERENCES currency (id_currency)
+);
+
+CREATE TABLE account_activation (
+    id_account_activation     INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id_account                INTEGER      NOT NULL,
+    id_type_document_provided INTEGER      NOT NULL,
+    document_number_provided  VARCHAR(20)  NOT NULL,
+    account_number_provided   VARCHAR(20)  NOT NULL,
+    activation_status         VARCHAR(20)  NOT NULL,
+    error_reason              VARCHAR(255),
+    attempt_date              TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_account_activation_account FOREIGN KEY (id_account) REFERENCES account (id_account),
+    CONSTRAINT fk_account_activation_type_document FOREIGN KEY (id_type_document_provided) REFERENCES type_document (id_type_document)
+);
@@ -0,0 +1,23 @@
+-- Indexes for repository queries and foreign keys.
+-- IF NOT EXISTS keeps the script safe on databases baselined from the hibernate-generated schema.
+--
+-- Already covered by unique constraints (V1 or hibernate-generated):
+--   account.account_number  -> IAccountRepository.findByAccountNumber
+--   client.email            -> IClientRepository.existsByEmail / existsByEmailAndIdClientNot
+--   client.document_number  -> IClientRepository.existsByDocumentNumber / existsByDocumentNumberAndIdClientNot
+--   type_document.code      -> ITypeDocumentRepository.existsByCode / existsByCodeAndIdTypeDocumentNot
+-- ITypeDocumentRepository.findByActiveTrue reads a small catalog; a sequential scan is cheaper than an index.
+
+-- Foreign keys: joins from the parent side and FK checks on parent delete
+CREATE INDEX IF NOT EXISTS ix_client_id_type_document ON client (id_type_document);
+CREATE INDEX IF NOT EXISTS ix_account_id_client ON account (id_client);
+CREATE INDEX IF NOT EXISTS ix_account_id_type_account ON account (id_type_account);
+CREATE INDEX IF NOT EXISTS ix_account_id_currency ON account (id_currency);
+CREATE INDEX IF NOT EXISTS ix_account_activation_id_type_document_provided ON account_activation (id_type_document_provided);
+
+-- Activation history of an account, newest first (also serves the id_account foreign key)
+CREATE INDEX IF NOT EXISTS ix_account_activation_id_account_attempt_date
+    ON account_activation (id_account, attempt_date DESC);
+
+-- Time-range queries across all accounts (audit and compliance windows)
+CREATE INDEX IF NOT EXISTS ix_account_activation_attempt_date ON account_activation (attempt_date);
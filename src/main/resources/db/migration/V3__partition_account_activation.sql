@@ -0,0 +1,114 @@
+-- account_activation becomes a table partitioned by month on attempt_date.
+-- Queries bounded by attempt_date only touch the matching partitions, and old months are
+-- archived by detaching whole partitions instead of deleting rows.
+--
+-- The primary key must include the partition key, so it becomes (id_account_activation, attempt_date);
+-- ids still come from a single sequence and stay unique.
+-- Identity columns are not supported on partitioned tables before PostgreSQL 17, so the id uses a sequence default.
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+ALTER TABLE account_activation RENAME TO account_activation_unpartitioned;
+ALTER TABLE account_activation_unpartitioned RENAME CONSTRAINT account_activation_pkey TO account_activation_unpartitioned_pkey;
+DROP INDEX IF EXISTS ix_account_activation_id_type_document_provided;
+DROP INDEX IF EXISTS ix_account_activation_id_account_attempt_date;
+DROP INDEX IF EXISTS ix_account_activation_attempt_date;
+
+CREATE SEQUENCE account_activation_id_seq AS INTEGER;
+
+CREATE TABLE account_activation (
+    id_account_activation     INTEGER      NOT NULL DEFAULT nextval('account_activation_id_seq'),
+    id_account                INTEGER      NOT NULL,
+    id_type_document_provided INTEGER      NOT NULL,
+    document_number_provided  VARCHAR(20)  NOT NULL,
+    account_number_provided   VARCHAR(20)  NOT NULL,
+    activation_status         VARCHAR(20)  NOT NULL,
+    error_reason              VARCHAR(255),
+    attempt_date              TIMESTAMP(6) NOT NULL,
+    CONSTRAINT account_activation_pkey PRIMARY KEY (id_account_activation, attempt_date),
+    CONSTRAINT fk_account_activation_account FOREIGN KEY (id_account) REFERENCES account (id_account),
+    CONSTRAINT fk_account_activation_type_document FOREIGN KEY (id_type_document_provided) REFERENCES type_document (id_type_document)
+) PARTITION BY RANGE (attempt_date);
+
+ALTER SEQUENCE account_activation_id_seq OWNED BY account_activation.id_account_activation;
+
+-- Catches rows outside the pre-created months so inserts never fail
+CREATE TABLE account_activation_default PARTITION OF account_activation DEFAULT;
+
+-- Creates the partition for the month containing p_month if it does not exist yet.
+-- Returns true when a partition was created.
+CREATE OR REPLACE FUNCTION ensure_account_activation_partition(p_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    start_date     DATE := date_trunc('month', p_month)::DATE;
+    end_date       DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'account_activation_' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(quote_ident(partition_name)) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF account_activation FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, start_date, end_date);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches the monthly partitions that end on or before p_before and moves them to the archive schema.
+-- Returns the number of archived partitions.
+CREATE OR REPLACE FUNCTION archive_account_activation_partitions(p_before DATE) RETURNS INTEGER AS $$
+DECLARE
+    part     RECORD;
+    archived INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT n.nspname AS schema_name, c.relname AS table_name
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE i.inhparent = 'account_activation'::REGCLASS
+          AND c.relname ~ '^account_activation_[0-9]{4}_[0-9]{2}$'
+          AND to_date(right(c.relname, 7), 'YYYY_MM') + INTERVAL '1 month' <= p_before
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE account_activation DETACH PARTITION %I.%I', part.schema_name, part.table_name);
+        EXECUTE format('ALTER TABLE %I.%I SET SCHEMA archive', part.schema_name, part.table_name);
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions from the oldest existing attempt up to two months ahead, then copy the data
+DO $$
+DECLARE
+    current_month   DATE := date_trunc('month', now())::DATE;
+    partition_month DATE;
+BEGIN
+    SELECT LEAST(COALESCE(date_trunc('month', min(attempt_date))::DATE, current_month), current_month)
+    INTO partition_month
+    FROM account_activation_unpartitioned;
+
+    WHILE partition_month <= current_month + INTERVAL '2 months' LOOP
+        PERFORM ensure_account_activation_partition(partition_month);
+        partition_month := (partition_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO account_activation (id_account_activation, id_account, id_type_document_provided, document_number_provided,
+                                account_number_provided, activation_status, error_reason, attempt_date)
+SELECT id_account_activation, id_account, id_type_document_provided, document_number_provided,
+       account_number_provided, activation_status, error_reason, attempt_date
+FROM account_activation_unpartitioned;
+
+SELECT setval('account_activation_id_seq', COALESCE(max(id_account_activation), 0) + 1, false) FROM account_activation;
+
+DROP TABLE account_activation_unpartitioned;
+
+-- Indexes on the partitioned table are created on every partition, including future ones.
+-- Both keyset orders end with the id so pages are stable when attempts share a timestamp.
+CREATE INDEX ix_account_activation_id_account_attempt_date
+    ON account_activation (id_account, attempt_date DESC, id_account_activation DESC);
+CREATE INDEX ix_account_activation_attempt_date
+    ON account_activation (attempt_date DESC, id_account_activation DESC);
+CREATE INDEX ix_account_activation_id_type_document_provided
+    ON account_activation (id_type_document_provided);
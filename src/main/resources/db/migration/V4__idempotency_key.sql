@@ -0,0 +1,15 @@
+-- Idempotency keys shared by all nodes (used when idempotency.store=jdbc).
+-- A row without response_status is a request still in progress.
+CREATE TABLE IF NOT EXISTS idempotency_key (
+    idempotency_key  VARCHAR(200) NOT NULL,
+    claimed_at       TIMESTAMP    NOT NULL DEFAULT now(),
+    expires_at       TIMESTAMP    NOT NULL,
+    response_status  INTEGER,
+    content_type     VARCHAR(255),
+    location         VARCHAR(2048),
+    body             BYTEA,
+    CONSTRAINT pk_idempotency_key PRIMARY KEY (idempotency_key)
+);
+
+-- Purge of expired keys
+CREATE INDEX IF NOT EXISTS ix_idempotency_key_expires_at ON idempotency_key (expires_at);
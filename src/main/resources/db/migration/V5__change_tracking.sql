@@ -0,0 +1,27 @@
+-- Change tracking for the delta-sync endpoints (/clients/changes, /accounts/changes).
+-- updated_at is maintained by the entities (@PrePersist/@PreUpdate) and by the account activation UPDATE.
+-- Existing rows are backfilled with their best known modification time.
+ALTER TABLE client ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+UPDATE client SET updated_at = LOCALTIMESTAMP WHERE updated_at IS NULL;
+ALTER TABLE client ALTER COLUMN updated_at SET NOT NULL;
+
+ALTER TABLE account ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+UPDATE account SET updated_at = COALESCE(activated_date, created_date) WHERE updated_at IS NULL;
+ALTER TABLE account ALTER COLUMN updated_at SET NOT NULL;
+
+-- Keyset scans of the change feeds: (updated_at, id) > (since) ORDER BY updated_at, id
+CREATE INDEX IF NOT EXISTS ix_client_updated_at_id_client ON client (updated_at, id_client);
+CREATE INDEX IF NOT EXISTS ix_account_updated_at_id_account ON account (updated_at, id_account);
+
+-- Deleted clients and accounts, reported by the change feeds until purged after the retention period
+CREATE TABLE IF NOT EXISTS tombstone (
+    id_tombstone   BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    resource_type  VARCHAR(20)  NOT NULL,
+    resource_id    INTEGER      NOT NULL,
+    deleted_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_tombstone PRIMARY KEY (id_tombstone)
+);
+
+CREATE INDEX IF NOT EXISTS ix_tombstone_resource_type_deleted_at
+    ON tombstone (resource_type, deleted_at, resource_id);
+CREATE INDEX IF NOT EXISTS ix_tombstone_deleted_at ON tombstone (deleted_at);
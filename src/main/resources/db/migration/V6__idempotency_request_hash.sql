@@ -0,0 +1,3 @@
+-- Hash of the request body that claimed each idempotency key.
+-- A retry with the same key and a different body is rejected instead of replaying the stored response.
+ALTER TABLE idempotency_key ADD COLUMN IF NOT EXISTS request_hash VARCHAR(64);
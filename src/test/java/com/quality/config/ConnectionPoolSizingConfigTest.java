@@ -0,0 +1,65 @@
+package com.quality.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConnectionPoolSizingConfigTest {
+
+	@Test
+	void poolSizeIsTwiceTheCoresPlusSpindles() {
+		assertEquals(9, ConnectionPoolSizingConfig.poolSize(4, 1));
+		assertEquals(8, ConnectionPoolSizingConfig.poolSize(4, -1));
+		assertEquals(Runtime.getRuntime().availableProcessors() * 2 + 1, ConnectionPoolSizingConfig.poolSize(0, 1));
+	}
+
+	@Test
+	void poolsWithoutExplicitSizeAreSizedFromCores() {
+		BeanPostProcessor sizer = sizer(new MockEnvironment());
+
+		HikariDataSource primary = postProcess(sizer, "primaryDataSource", 50);
+		HikariDataSource replica = postProcess(sizer, "replicaDataSource", 50);
+
+		assertEquals(9, primary.getMaximumPoolSize());
+		assertEquals(9, primary.getMinimumIdle());
+		assertEquals(9, replica.getMaximumPoolSize());
+	}
+
+	@Test
+	void explicitSizeOnlyProtectsThePoolThatBindsIt() {
+		BeanPostProcessor sizer = sizer(new MockEnvironment()
+				.withProperty(ConnectionPoolSizingConfig.EXPLICIT_REPLICA_POOL_SIZE, "3"));
+
+		HikariDataSource primary = postProcess(sizer, "primaryDataSource", 50);
+		HikariDataSource replica = postProcess(sizer, "replicaDataSource", 3);
+
+		assertEquals(9, primary.getMaximumPoolSize());
+		assertEquals(3, replica.getMaximumPoolSize());
+	}
+
+	@Test
+	void explicitPrimarySizeAlsoCoversTheAutoConfiguredPool() {
+		BeanPostProcessor sizer = sizer(new MockEnvironment()
+				.withProperty(ConnectionPoolSizingConfig.EXPLICIT_POOL_SIZE, "20"));
+
+		assertEquals(20, postProcess(sizer, "primaryDataSource", 20).getMaximumPoolSize());
+		assertEquals(20, postProcess(sizer, "dataSource", 20).getMaximumPoolSize());
+		assertEquals(9, postProcess(sizer, "replicaDataSource", 50).getMaximumPoolSize());
+	}
+
+	private static BeanPostProcessor sizer(MockEnvironment environment) {
+		return ConnectionPoolSizingConfig.connectionPoolSizer(environment
+				.withProperty("datasource.pool.cores", "4")
+				.withProperty("datasource.pool.spindles", "1"));
+	}
+
+	private static HikariDataSource postProcess(BeanPostProcessor sizer, String beanName, int boundSize) {
+		// Stands for the size bound from the properties before the post processor runs
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setMaximumPoolSize(boundSize);
+		return (HikariDataSource) sizer.postProcessAfterInitialization(dataSource, beanName);
+	}
+}
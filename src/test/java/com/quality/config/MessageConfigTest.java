@@ -0,0 +1,98 @@
+package com.quality.config;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.LocaleResolver;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MessageConfigTest {
+
+	private final MessageConfig config = new MessageConfig();
+
+	@AfterEach
+	void resetLocale() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	void headerLocaleResolverNeverCreatesSession() {
+		LocaleResolver resolver = config.localeResolver(MessageConfig.LOCALE_RESOLVER_HEADER, "es,en");
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Accept-Language", "en-US,en;q=0.9");
+
+		Locale locale = resolver.resolveLocale(request);
+
+		assertEquals(Locale.ENGLISH, locale);
+		assertNull(request.getSession(false));
+	}
+
+	@Test
+	void unsupportedLanguageFallsBackToRootLocale() {
+		LocaleResolver resolver = config.localeResolver(MessageConfig.LOCALE_RESOLVER_HEADER, "es,en");
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Accept-Language", "ja-JP");
+
+		assertEquals(Locale.ROOT, resolver.resolveLocale(request));
+		assertNull(request.getSession(false));
+	}
+
+	@Test
+	void validationMessagesAreResolvedFromMessageSourceInRequestLocale() {
+		StaticMessageSource messageSource = new StaticMessageSource();
+		messageSource.addMessage("name.size", Locale.ENGLISH, "Must have between {min} and {max} characters");
+		messageSource.addMessage("name.size", new Locale("es"), "Debe tener entre {min} y {max} caracteres");
+		LocalValidatorFactoryBean validator = validator(messageSource);
+
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		Map<String, String> english = messages(validator.validate(new Named("x", "y", "z")));
+		LocaleContextHolder.setLocale(new Locale("es"));
+		Map<String, String> spanish = messages(validator.validate(new Named("x", "y", "z")));
+
+		// Same template, different attributes: each field gets its own message
+		assertEquals("Must have between 2 and 5 characters", english.get("shortName"));
+		assertEquals("Must have between 3 and 10 characters", english.get("longName"));
+		assertEquals("Debe tener entre 2 y 5 caracteres", spanish.get("shortName"));
+	}
+
+	@Test
+	void keysMissingFromMessageSourceFallBackToValidatorDefaults() {
+		LocalValidatorFactoryBean validator = validator(new StaticMessageSource());
+
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		Map<String, String> english = messages(validator.validate(new Named("abc", "abc", null)));
+
+		assertEquals("must not be null", english.get("required"));
+	}
+
+	private LocalValidatorFactoryBean validator(StaticMessageSource messageSource) {
+		LocalValidatorFactoryBean validator = config.getValidator(messageSource);
+		validator.afterPropertiesSet();
+		return validator;
+	}
+
+	private static Map<String, String> messages(Set<ConstraintViolation<Named>> violations) {
+		return violations.stream().collect(Collectors.toMap(
+				violation -> violation.getPropertyPath().toString(), ConstraintViolation::getMessage));
+	}
+
+	private record Named(
+			@Size(min = 2, max = 5, message = "{name.size}") String shortName,
+			@Size(min = 3, max = 10, message = "{name.size}") String longName,
+			@NotNull String required
+	) {
+	}
+}
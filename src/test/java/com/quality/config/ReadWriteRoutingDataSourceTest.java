@@ -0,0 +1,72 @@
+package com.quality.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing checks with in-process stand-ins for the primary and replica pools.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+	private final Connection primaryConnection = mock(Connection.class);
+	private final Connection replicaConnection = mock(Connection.class);
+	private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+	private final ReadWriteRoutingDataSource dataSource;
+
+	ReadWriteRoutingDataSourceTest() throws SQLException {
+		DataSource primary = mock(DataSource.class);
+		DataSource replica = mock(DataSource.class);
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		when(replica.getConnection()).thenReturn(replicaConnection);
+		dataSource = new ReadWriteRoutingDataSource(primary, replica, replicaAvailable::get);
+	}
+
+	@AfterEach
+	void clearTransaction() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void readOnlyTransactionUsesReplica() throws SQLException {
+		beginTransaction(true);
+
+		assertSame(replicaConnection, dataSource.getConnection());
+	}
+
+	@Test
+	void readWriteTransactionUsesPrimary() throws SQLException {
+		beginTransaction(false);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+	}
+
+	@Test
+	void noTransactionUsesPrimary() throws SQLException {
+		assertSame(primaryConnection, dataSource.getConnection());
+	}
+
+	@Test
+	void unavailableReplicaFallsBackToPrimary() throws SQLException {
+		replicaAvailable.set(false);
+		beginTransaction(true);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+	}
+
+	private static void beginTransaction(boolean readOnly) {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.quality.exception.validation;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UniqueConstraintTranslatorTest {
+
+	@Test
+	void namedConstraintMapsToApiFieldWithSubmittedValue() {
+		DataIntegrityViolationException ex = violation("uk_client_document_number",
+				"ERROR: duplicate key value violates unique constraint \"uk_client_document_number\"\n"
+						+ "  Detail: Key (document_number)=(12345678) already exists.", "23505");
+
+		Optional<DuplicateFieldException> duplicate = UniqueConstraintTranslator.translate(ex,
+				Map.of("email", "juan.perez@example.com", "documentNumber", "12345678"));
+
+		assertTrue(duplicate.isPresent());
+		assertEquals("documentNumber", duplicate.get().getFieldName());
+		assertEquals("12345678", duplicate.get().getFieldValue());
+	}
+
+	@Test
+	void generatedConstraintNameFallsBackToDetailColumn() {
+		DataIntegrityViolationException ex = violation("uk_bma9lv19ba3yjwf12a34xord3",
+				"ERROR: duplicate key value violates unique constraint \"uk_bma9lv19ba3yjwf12a34xord3\"\n"
+						+ "  Detail: Key (email)=(juan.perez@example.com) already exists.", "23505");
+
+		Optional<DuplicateFieldException> duplicate = UniqueConstraintTranslator.translate(ex, Map.of());
+
+		assertTrue(duplicate.isPresent());
+		assertEquals("email", duplicate.get().getFieldName());
+		assertEquals("juan.perez@example.com", duplicate.get().getFieldValue());
+	}
+
+	@Test
+	void otherIntegrityViolationsAreNotTranslated() {
+		DataIntegrityViolationException ex = violation("fk_client_type_document",
+				"ERROR: insert or update on table \"client\" violates foreign key constraint \"fk_client_type_document\"", "23503");
+
+		assertTrue(UniqueConstraintTranslator.translate(ex, Map.of()).isEmpty());
+	}
+
+	private static DataIntegrityViolationException violation(String constraintName, String message, String sqlState) {
+		SQLException sqlException = new SQLException(message, sqlState);
+		return new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.quality.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the repository lookups on hot paths are answered from an index.
+ * Runs against the migrated schema of the configured database; sequential scans are disabled
+ * for the test transaction, so a plan still containing "Seq Scan" means no usable index exists.
+ * The SQL mirrors what Spring Data generates for each repository method.
+ */
+@SpringBootTest
+@Transactional
+class SchemaIndexUsageTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void disableSequentialScans() {
+		jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+	}
+
+	static Stream<Arguments> repositoryQueries() {
+		return Stream.of(
+				Arguments.of("IAccountRepository.findByAccountNumber",
+						"SELECT * FROM account a WHERE a.account_number = '0011000000000001'"),
+				Arguments.of("IClientRepository.existsByEmail",
+						"SELECT c.id_client FROM client c WHERE c.email = 'qa@example.com' FETCH FIRST 1 ROWS ONLY"),
+				Arguments.of("IClientRepository.existsByEmailAndIdClientNot",
+						"SELECT c.id_client FROM client c WHERE c.email = 'qa@example.com' AND c.id_client <> 1 FETCH FIRST 1 ROWS ONLY"),
+				Arguments.of("IClientRepository.existsByDocumentNumber",
+						"SELECT c.id_client FROM client c WHERE c.document_number = '12345678' FETCH FIRST 1 ROWS ONLY"),
+				Arguments.of("IClientRepository.existsByDocumentNumberAndIdClientNot",
+						"SELECT c.id_client FROM client c WHERE c.document_number = '12345678' AND c.id_client <> 1 FETCH FIRST 1 ROWS ONLY"),
+				Arguments.of("ITypeDocumentRepository.existsByCode",
+						"SELECT t.id_type_document FROM type_document t WHERE t.code = 'DNI' FETCH FIRST 1 ROWS ONLY"),
+				Arguments.of("ITypeDocumentRepository.existsByCodeAndIdTypeDocumentNot",
+						"SELECT t.id_type_document FROM type_document t WHERE t.code = 'DNI' AND t.id_type_document <> 1 FETCH FIRST 1 ROWS ONLY"),
+				Arguments.of("accounts of a client",
+						"SELECT * FROM account a WHERE a.id_client = 1"),
+				Arguments.of("IAccountRepository.findSummariesByIdClient",
+						"SELECT a.id_account, la.activation_status FROM account a "
+								+ "LEFT JOIN LATERAL (SELECT aa.activation_status FROM account_activation aa "
+								+ "WHERE aa.id_account = a.id_account "
+								+ "ORDER BY aa.attempt_date DESC, aa.id_account_activation DESC LIMIT 1) la ON true "
+								+ "WHERE a.id_client = 1"),
+				Arguments.of("activations of an account",
+						"SELECT * FROM account_activation aa WHERE aa.id_account = 1 ORDER BY aa.attempt_date DESC"),
+				Arguments.of("activations in a time range",
+						"SELECT * FROM account_activation aa WHERE aa.attempt_date >= now() - interval '24 hours'")
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("repositoryQueries")
+	void queryUsesIndex(String description, String sql) {
+		String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+		assertFalse(plan.contains("Seq Scan"), description + " should not scan the table:\n" + plan);
+		assertTrue(plan.contains("Index"), description + " should use an index:\n" + plan);
+	}
+}
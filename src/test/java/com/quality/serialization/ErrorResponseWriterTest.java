@@ -0,0 +1,52 @@
+package com.quality.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quality.exception.response.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorResponseWriterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MappingJackson2CborHttpMessageConverter cborConverter = new MappingJackson2CborHttpMessageConverter();
+	private final ErrorResponseWriter writer = new ErrorResponseWriter(
+			objectMapper, cborConverter, new JsonStreamWriter(objectMapper, cborConverter));
+
+	@Test
+	void errorsDefaultToJson() throws IOException {
+		MockHttpServletResponse response = write(null);
+
+		assertEquals(400, response.getStatus());
+		assertEquals("application/json;charset=UTF-8", response.getContentType());
+		assertEquals("TYP-001", objectMapper.readTree(response.getContentAsByteArray()).get("typeCode").asText());
+	}
+
+	@Test
+	void errorsFollowTheNegotiatedCborRepresentation() throws IOException {
+		MockHttpServletResponse response = write("application/cbor, application/json;q=0.5");
+
+		assertEquals("application/cbor", response.getContentType());
+		assertEquals("TYP-001", cborConverter.getObjectMapper()
+				.readTree(response.getContentAsByteArray()).get("typeCode").asText());
+	}
+
+	private MockHttpServletResponse write(String accept) throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (accept != null) {
+			request.addHeader("Accept", accept);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ErrorResponse body = new ErrorResponse();
+		body.setTypeCode("TYP-001");
+
+		writer.write(request, response, HttpStatus.BAD_REQUEST, body);
+		return response;
+	}
+}
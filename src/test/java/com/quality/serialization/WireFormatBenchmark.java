@@ -0,0 +1,104 @@
+package com.quality.serialization;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.quality.dto.AccountDTO;
+import com.quality.dto.ClientDTO;
+import com.quality.model.AccountStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Micro-benchmark comparing JSON and CBOR for the AccountDTO / ClientDTO list payloads.
+ * Reports payload size and average encode/decode time per list.
+ * Not a unit test (no assertions, not picked up by Surefire); run it manually after test-compile:
+ * <pre>
+ * ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.quality.serialization.WireFormatBenchmark 5000
+ * </pre>
+ */
+public class WireFormatBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        ObjectMapper json = configure(new ObjectMapper());
+        ObjectMapper cbor = configure(new ObjectMapper(new CBORFactory()));
+
+        List<AccountDTO> accounts = sampleAccounts(size);
+        List<ClientDTO> clients = sampleClients(size);
+
+        System.out.printf("%-10s %-6s %12s %14s %14s%n", "payload", "format", "bytes", "encode (us)", "decode (us)");
+        run("accounts", "json", json, accounts, AccountDTO.class);
+        run("accounts", "cbor", cbor, accounts, AccountDTO.class);
+        run("clients", "json", json, clients, ClientDTO.class);
+        run("clients", "cbor", cbor, clients, ClientDTO.class);
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        // Same date handling as the Spring Boot managed mappers
+        return mapper.registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static <T> void run(String payload, String format, ObjectMapper mapper, List<T> data, Class<T> type)
+            throws Exception {
+        JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, type);
+        byte[] encoded = mapper.writeValueAsBytes(data);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(data), listType);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoded = mapper.writeValueAsBytes(data);
+            long middle = System.nanoTime();
+            mapper.readValue(encoded, listType);
+            long end = System.nanoTime();
+            encodeNanos += middle - start;
+            decodeNanos += end - middle;
+        }
+
+        System.out.printf("%-10s %-6s %12d %14.1f %14.1f%n", payload, format, encoded.length,
+                encodeNanos / 1000.0 / MEASURED_ROUNDS, decodeNanos / 1000.0 / MEASURED_ROUNDS);
+    }
+
+    private static List<AccountDTO> sampleAccounts(int size) {
+        List<AccountDTO> accounts = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            AccountDTO dto = new AccountDTO();
+            dto.setIdAccount(i);
+            dto.setAccountNumber("SAUSD" + (1738521234L + i) + "5678");
+            dto.setIdClient(i % 500 + 1);
+            dto.setIdTypeAccount(i % 3 + 1);
+            dto.setIdCurrency(i % 2 + 1);
+            dto.setBalance(new BigDecimal("1000.50").add(BigDecimal.valueOf(i)));
+            dto.setStatus(i % 4 == 0 ? AccountStatus.INACTIVE : AccountStatus.ACTIVE);
+            dto.setCreatedDate(LocalDateTime.of(2024, 1, 15, 10, 30).plusMinutes(i));
+            dto.setActivatedDate(LocalDateTime.of(2024, 1, 16, 14, 45).plusMinutes(i));
+            accounts.add(dto);
+        }
+        return accounts;
+    }
+
+    private static List<ClientDTO> sampleClients(int size) {
+        List<ClientDTO> clients = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            clients.add(new ClientDTO(i, "Juan", "Pérez", 1, String.format("%08d", i),
+                    "juan.perez" + i + "@example.com", "+51987654321"));
+        }
+        return clients;
+    }
+}
@@ -0,0 +1,44 @@
+package com.quality.service;
+
+import com.quality.exception.validation.InvalidFieldFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+	@Test
+	void encodedCursorDecodesToTheSamePosition() {
+		LocalDateTime timestamp = LocalDateTime.of(2024, 1, 16, 12, 30, 15, 123_456_000);
+
+		KeysetCursor decoded = KeysetCursor.decode("cursor", new KeysetCursor(timestamp, 42).encode());
+
+		assertEquals(timestamp, decoded.getTimestamp());
+		assertEquals(42, decoded.getId());
+	}
+
+	@Test
+	void encodedCursorIsUrlSafe() {
+		String token = new KeysetCursor(LocalDateTime.of(2024, 1, 16, 12, 0), Integer.MAX_VALUE).encode();
+
+		assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+	}
+
+	@Test
+	void tokensNotProducedByEncodeAreRejected() {
+		assertThrows(InvalidFieldFormatException.class, () -> KeysetCursor.decode("cursor", "not base64!"));
+		assertThrows(InvalidFieldFormatException.class, () -> KeysetCursor.decode("cursor", encode("no separator")));
+		assertThrows(InvalidFieldFormatException.class, () -> KeysetCursor.decode("cursor", encode("yesterday|1")));
+		assertThrows(InvalidFieldFormatException.class, () -> KeysetCursor.decode("cursor", encode("2024-01-16T12:00|x")));
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
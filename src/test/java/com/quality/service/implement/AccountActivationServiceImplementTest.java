@@ -0,0 +1,133 @@
+package com.quality.service.implement;
+
+import com.quality.exception.validation.InvalidFieldFormatException;
+import com.quality.model.ActivationStatus;
+import com.quality.repository.IAccountActivationRepository;
+import com.quality.repository.IAccountRepository;
+import com.quality.repository.ITypeDocumentRepository;
+import com.quality.repository.projection.AccountActivationSummary;
+import com.quality.service.IAccountActivationService;
+import com.quality.service.IAccountService;
+import com.quality.service.IActivationCounterService;
+import com.quality.service.IDocumentNumberValidator;
+import com.quality.service.KeysetCursor;
+import com.quality.service.KeysetPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AccountActivationServiceImplementTest {
+
+	private static final LocalDateTime TO = LocalDateTime.of(2024, 1, 16, 12, 0);
+	private static final LocalDateTime FROM = TO.minusHours(1);
+
+	private final IAccountActivationRepository repo = mock(IAccountActivationRepository.class);
+	private final AccountActivationServiceImplement service = new AccountActivationServiceImplement(
+			repo, mock(IAccountService.class), mock(IAccountRepository.class), mock(ITypeDocumentRepository.class),
+			mock(IActivationCounterService.class), mock(IDocumentNumberValidator.class));
+
+	@Test
+	void firstPageStartsBelowTheUpperBoundAndRequestsOneExtraRow() {
+		when(repo.search(any(), any(), anyInt(), any(), any(), any())).thenReturn(List.of(row(2, TO.minusMinutes(1))));
+
+		KeysetPage<AccountActivationSummary> page = service.search(7, ActivationStatus.SUCCESS, FROM, TO, 2, null);
+
+		verify(repo).search(FROM, TO, 0, 7, ActivationStatus.SUCCESS, PageRequest.of(0, 3));
+		assertEquals(1, page.items().size());
+		assertNull(page.nextCursor());
+	}
+
+	@Test
+	void extraRowProducesCursorOfTheLastReturnedRow() {
+		LocalDateTime second = TO.minusMinutes(2);
+		when(repo.search(any(), any(), anyInt(), any(), any(), any()))
+				.thenReturn(List.of(row(3, TO.minusMinutes(1)), row(2, second), row(1, second)));
+
+		KeysetPage<AccountActivationSummary> page = service.search(null, null, FROM, TO, 2, null);
+
+		assertEquals(2, page.items().size());
+		assertEquals(new KeysetCursor(second, 2).encode(), page.nextCursor());
+	}
+
+	@Test
+	void cursorResumesFromItsPosition() {
+		LocalDateTime position = TO.minusMinutes(5);
+		when(repo.search(any(), any(), anyInt(), any(), any(), any())).thenReturn(List.of());
+
+		service.search(null, null, FROM, TO, 10, new KeysetCursor(position, 9).encode());
+
+		verify(repo).search(FROM, position, 9, null, null, PageRequest.of(0, 11));
+	}
+
+	@Test
+	void rangeMustEndAfterItStarts() {
+		assertThrows(InvalidFieldFormatException.class, () -> service.search(null, null, TO, TO, 10, null));
+		assertThrows(InvalidFieldFormatException.class, () -> service.search(null, null, TO.plusSeconds(1), TO, 10, null));
+		verifyNoInteractions(repo);
+	}
+
+	@Test
+	void limitMustBeWithinBounds() {
+		assertThrows(InvalidFieldFormatException.class, () -> service.search(null, null, FROM, TO, 0, null));
+		assertThrows(InvalidFieldFormatException.class,
+				() -> service.search(null, null, FROM, TO, IAccountActivationService.MAX_SEARCH_LIMIT + 1, null));
+		verifyNoInteractions(repo);
+	}
+
+	@Test
+	void searchRunsOnlyTheQueryOfTheGivenFilters() {
+		PageRequest page = PageRequest.of(0, 11);
+		when(repo.search(any(), any(), anyInt(), any(), any(), any())).thenCallRealMethod();
+
+		repo.search(FROM, TO, 0, null, null, page);
+		repo.search(FROM, TO, 0, 7, null, page);
+		repo.search(FROM, TO, 0, null, ActivationStatus.FAILED, page);
+		repo.search(FROM, TO, 0, 7, ActivationStatus.FAILED, page);
+
+		verify(repo).searchAll(FROM, TO, 0, page);
+		verify(repo).searchByAccount(FROM, TO, 0, 7, page);
+		verify(repo).searchByStatus(FROM, TO, 0, ActivationStatus.FAILED, page);
+		verify(repo).searchByAccountAndStatus(FROM, TO, 0, 7, ActivationStatus.FAILED, page);
+	}
+
+	private static AccountActivationSummary row(int id, LocalDateTime attemptDate) {
+		return new AccountActivationSummary() {
+			@Override
+			public Integer getIdAccountActivation() {
+				return id;
+			}
+
+			@Override
+			public Integer getIdAccount() {
+				return 7;
+			}
+
+			@Override
+			public ActivationStatus getActivationStatus() {
+				return ActivationStatus.SUCCESS;
+			}
+
+			@Override
+			public String getErrorReason() {
+				return null;
+			}
+
+			@Override
+			public LocalDateTime getAttemptDate() {
+				return attemptDate;
+			}
+		};
+	}
+}
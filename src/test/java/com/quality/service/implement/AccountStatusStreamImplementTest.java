@@ -0,0 +1,54 @@
+package com.quality.service.implement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.quality.model.AccountStatus;
+import com.quality.service.AccountStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountStatusStreamImplementTest {
+
+	private final AccountStatusStreamImplement stream = new AccountStatusStreamImplement(
+			new ObjectMapper().registerModule(new JavaTimeModule()), 4, 8, 2, Duration.ofMinutes(1), 1);
+
+	@AfterEach
+	void shutdown() {
+		stream.shutdown();
+	}
+
+	@Test
+	void subscriptionsAreLimited() {
+		assertTrue(stream.subscribe(null, null).isPresent());
+		assertTrue(stream.subscribe(1, null).isPresent());
+
+		assertFalse(stream.subscribe(null, null).isPresent());
+		assertEquals(2, stream.subscriberCount());
+	}
+
+	@Test
+	void reconnectWithUnknownOrMalformedEventIdIsAccepted() {
+		stream.onStatusChanged(new AccountStatusChangedEvent(1, AccountStatus.INACTIVE, AccountStatus.ACTIVE, LocalDateTime.now()));
+
+		assertDoesNotThrow(() -> stream.subscribe(null, "1"));
+		assertDoesNotThrow(() -> stream.subscribe(null, "not-a-number"));
+		assertEquals(2, stream.subscriberCount());
+	}
+
+	@Test
+	void shutdownDropsEverySubscriber() {
+		stream.subscribe(null, null);
+
+		stream.shutdown();
+
+		assertEquals(0, stream.subscriberCount());
+	}
+}
@@ -0,0 +1,165 @@
+package com.quality.service.implement;
+
+import com.quality.model.ActivationStatus;
+import com.quality.repository.IAccountActivationRepository;
+import com.quality.repository.projection.AccountActivationSummary;
+import com.quality.service.ActivationCounts;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActivationCounterServiceImplementTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2024, 1, 16, 12, 0);
+
+	private final IAccountActivationRepository repo = mock(IAccountActivationRepository.class);
+	private final MutableClock clock = new MutableClock(START);
+	private final ActivationCounterServiceImplement service = new ActivationCounterServiceImplement(repo, clock);
+
+	@Test
+	void attemptsAreCountedByOutcome() {
+		service.record(1, ActivationStatus.FAILED, START);
+		service.record(1, ActivationStatus.FAILED, START);
+		service.record(1, ActivationStatus.SUCCESS, START);
+
+		ActivationCounts counts = service.getCounts(1);
+
+		assertEquals(1, counts.successCount());
+		assertEquals(2, counts.failedCount());
+		assertEquals(0, service.getCounts(2).totalCount());
+	}
+
+	@Test
+	void bucketsRotateAcrossMinutes() {
+		for (int minute = 0; minute < 3; minute++) {
+			clock.set(START.plusMinutes(minute));
+			service.record(1, ActivationStatus.FAILED, START.plusMinutes(minute));
+		}
+
+		assertEquals(3, service.countRecentFailures(1));
+
+		// The bucket of minute 0 is reused for minute 60 and starts from zero
+		clock.set(START.plusMinutes(60));
+		service.record(1, ActivationStatus.SUCCESS, START.plusMinutes(60));
+
+		ActivationCounts counts = service.getCounts(1);
+		assertEquals(1, counts.successCount());
+		assertEquals(2, counts.failedCount());
+	}
+
+	@Test
+	void attemptsExpireAfterAnHour() {
+		service.record(1, ActivationStatus.FAILED, START);
+
+		clock.set(START.plusMinutes(59));
+		assertEquals(1, service.countRecentFailures(1));
+
+		clock.set(START.plusMinutes(60));
+		assertEquals(0, service.countRecentFailures(1));
+	}
+
+	@Test
+	void attemptsOutsideTheWindowAreClampedOrIgnored() {
+		service.record(1, ActivationStatus.FAILED, START.minusHours(1));
+		service.record(1, ActivationStatus.FAILED, START.plusMinutes(5));
+
+		// A future attempt counts in the current minute instead of outliving the window
+		assertEquals(1, service.countRecentFailures(1));
+		clock.set(START.plusMinutes(60));
+		assertEquals(0, service.countRecentFailures(1));
+	}
+
+	@Test
+	void purgeDropsOnlyIdleAccounts() {
+		service.record(1, ActivationStatus.FAILED, START);
+		clock.set(START.plusMinutes(30));
+		service.record(2, ActivationStatus.FAILED, START.plusMinutes(30));
+
+		clock.set(START.plusMinutes(60));
+		service.purgeIdle();
+
+		assertEquals(1, service.size());
+		assertEquals(0, service.countRecentFailures(1));
+		assertEquals(1, service.countRecentFailures(2));
+	}
+
+	@Test
+	void rebuildRestoresTheLastHourFromTheAuditTable() {
+		clock.set(START.plusMinutes(90));
+		when(repo.findSummariesSince(START.plusMinutes(30))).thenReturn(List.of(
+				attempt(1, ActivationStatus.FAILED, START.plusMinutes(40)),
+				attempt(1, ActivationStatus.SUCCESS, START.plusMinutes(80)),
+				attempt(2, ActivationStatus.FAILED, START.plusMinutes(89))));
+
+		service.rebuild();
+
+		assertEquals(new ActivationCounts(1, Duration.ofHours(1), 1, 1), service.getCounts(1));
+		assertEquals(1, service.countRecentFailures(2));
+	}
+
+	private static AccountActivationSummary attempt(int idAccount, ActivationStatus status, LocalDateTime attemptDate) {
+		return new AccountActivationSummary() {
+			@Override
+			public Integer getIdAccountActivation() {
+				return null;
+			}
+
+			@Override
+			public Integer getIdAccount() {
+				return idAccount;
+			}
+
+			@Override
+			public ActivationStatus getActivationStatus() {
+				return status;
+			}
+
+			@Override
+			public String getErrorReason() {
+				return null;
+			}
+
+			@Override
+			public LocalDateTime getAttemptDate() {
+				return attemptDate;
+			}
+		};
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(LocalDateTime now) {
+			set(now);
+		}
+
+		private void set(LocalDateTime now) {
+			this.now = now.toInstant(ZoneOffset.UTC);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
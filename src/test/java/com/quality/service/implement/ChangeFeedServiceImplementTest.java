@@ -0,0 +1,123 @@
+package com.quality.service.implement;
+
+import com.quality.exception.validation.InvalidFieldFormatException;
+import com.quality.model.Client;
+import com.quality.repository.IAccountRepository;
+import com.quality.repository.IClientRepository;
+import com.quality.repository.ITombstoneRepository;
+import com.quality.repository.projection.ChangeRow;
+import com.quality.service.ChangeFeedPage;
+import com.quality.service.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ChangeFeedServiceImplementTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 16, 12, 0);
+	private static final LocalDateTime UPPER = NOW.minusSeconds(5);
+
+	private final IClientRepository clientRepository = mock(IClientRepository.class);
+	private final ChangeFeedServiceImplement service = new ChangeFeedServiceImplement(
+			clientRepository, mock(IAccountRepository.class), mock(ITombstoneRepository.class),
+			Duration.ofSeconds(5), Duration.ofDays(30), Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+	@Test
+	void firstSyncReadsFromTheStartUpToTheSettledBound() {
+		when(clientRepository.findChanges(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+		ChangeFeedPage<Client> page = service.clientChanges(null, 100);
+
+		verify(clientRepository).findChanges(ChangeFeedServiceImplement.START.getTimestamp(), 0, UPPER, 101);
+		assertTrue(page.changes().isEmpty());
+		assertFalse(page.hasMore());
+		// A drained feed resumes from the settled bound
+		assertEquals(new ChangeFeedServiceImplement.FeedToken(new KeysetCursor(UPPER, 0), UPPER).encode(), page.nextToken());
+	}
+
+	@Test
+	void fullPageResumesAfterItsLastEntryAndReportsTombstones() {
+		LocalDateTime changedAt = NOW.minusMinutes(1);
+		Client client = new Client();
+		client.setIdClient(1);
+		when(clientRepository.findChanges(any(), any(), any(), anyInt()))
+				.thenReturn(List.of(row(1, changedAt, false), row(2, changedAt, true), row(3, changedAt, false)));
+		when(clientRepository.findAllWithDetailsByIdClientIn(List.of(1))).thenReturn(List.of(client));
+
+		ChangeFeedPage<Client> page = service.clientChanges(null, 2);
+
+		assertTrue(page.hasMore());
+		assertEquals(2, page.changes().size());
+		assertEquals(client, page.changes().get(0).item());
+		assertTrue(page.changes().get(1).deleted());
+		assertNull(page.changes().get(1).item());
+		assertEquals(new ChangeFeedServiceImplement.FeedToken(new KeysetCursor(changedAt, 2), UPPER).encode(), page.nextToken());
+	}
+
+	@Test
+	void fullSyncPagesThroughRowsOlderThanTheRetention() {
+		LocalDateTime backfilled = NOW.minusDays(90);
+		when(clientRepository.findChanges(any(), any(), any(), anyInt()))
+				.thenReturn(List.of(row(1, backfilled, true), row(2, backfilled, true)));
+
+		ChangeFeedPage<Client> first = service.clientChanges(null, 1);
+		ChangeFeedPage<Client> second = service.clientChanges(first.nextToken(), 1);
+
+		verify(clientRepository).findChanges(backfilled, 1, UPPER, 2);
+		assertTrue(second.hasMore());
+		assertEquals(new ChangeFeedServiceImplement.FeedToken(new KeysetCursor(backfilled, 2), UPPER).encode(),
+				second.nextToken());
+	}
+
+	@Test
+	void syncStartedBeforeTheRetentionIsRejected() {
+		String stale = new ChangeFeedServiceImplement.FeedToken(
+				new KeysetCursor(NOW.minusDays(90), 1), NOW.minusDays(31)).encode();
+
+		assertThrows(InvalidFieldFormatException.class, () -> service.clientChanges(stale, 100));
+	}
+
+	@Test
+	void positionOnlyTokenIsRejectedEvenWithinTombstoneRetention() {
+		// A bare position carries no sync start, so its retention cannot be checked
+		String positionOnly = new KeysetCursor(NOW.minusMinutes(1), 1).encode();
+
+		assertThrows(InvalidFieldFormatException.class, () -> service.clientChanges(positionOnly, 100));
+		verifyNoInteractions(clientRepository);
+	}
+
+	private static ChangeRow row(int id, LocalDateTime changedAt, boolean deleted) {
+		return new ChangeRow() {
+			@Override
+			public Integer getId() {
+				return id;
+			}
+
+			@Override
+			public LocalDateTime getChangedAt() {
+				return changedAt;
+			}
+
+			@Override
+			public Boolean getDeleted() {
+				return deleted;
+			}
+		};
+	}
+}
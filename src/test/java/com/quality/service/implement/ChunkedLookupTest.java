@@ -0,0 +1,56 @@
+package com.quality.service.implement;
+
+import com.quality.dto.BatchItemDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedLookupTest {
+
+	@Test
+	void largeKeyListIsSplitIntoBoundedDistinctChunks() {
+		List<Integer> keys = new ArrayList<>(IntStream.rangeClosed(1, ChunkedLookup.CHUNK_SIZE * 2 + 1).boxed().toList());
+		keys.add(1);
+		List<Integer> chunkSizes = new ArrayList<>();
+
+		Map<Integer, String> found = ChunkedLookup.find(keys, chunk -> {
+			chunkSizes.add(chunk.size());
+			return chunk.stream().map(String::valueOf).toList();
+		}, Integer::valueOf);
+
+		assertEquals(List.of(ChunkedLookup.CHUNK_SIZE, ChunkedLookup.CHUNK_SIZE, 1), chunkSizes);
+		assertEquals(ChunkedLookup.CHUNK_SIZE * 2 + 1, found.size());
+	}
+
+	@Test
+	void itemsFollowRequestOrderWithNotFoundMarkers() {
+		List<Integer> keys = List.of(3, 99, 1, 3);
+
+		Map<Integer, String> found = ChunkedLookup.find(keys, ChunkedLookupTest::upToTen, Integer::valueOf);
+		List<BatchItemDTO<String>> items = BatchItemDTO.inOrder(keys, found, value -> "item-" + value);
+
+		assertEquals(List.of(3, 99, 1, 3), items.stream().map(BatchItemDTO::getKey).toList());
+		assertTrue(items.get(0).isFound());
+		assertEquals("item-3", items.get(0).getItem());
+		assertFalse(items.get(1).isFound());
+		assertNull(items.get(1).getItem());
+		assertEquals("item-1", items.get(2).getItem());
+		assertEquals("item-3", items.get(3).getItem());
+	}
+
+	/**
+	 * Simulated query that only knows keys up to 10.
+	 */
+	private static List<String> upToTen(Collection<Integer> chunk) {
+		return chunk.stream().filter(key -> key <= 10).map(String::valueOf).toList();
+	}
+}
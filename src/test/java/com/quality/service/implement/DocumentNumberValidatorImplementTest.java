@@ -0,0 +1,87 @@
+package com.quality.service.implement;
+
+import com.quality.exception.validation.InvalidFieldFormatException;
+import com.quality.model.TypeDocument;
+import com.quality.repository.ITypeDocumentRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DocumentNumberValidatorImplementTest {
+
+	private final ITypeDocumentRepository repository = mock(ITypeDocumentRepository.class);
+	private final DocumentNumberValidatorImplement validator = new DocumentNumberValidatorImplement(repository);
+
+	@Test
+	void digitPatternsUseTheDigitScanner() {
+		assertInstanceOf(DocumentNumberValidatorImplement.DigitsMatcher.class,
+				DocumentNumberValidatorImplement.matcherFor("^\\d{8}$"));
+		assertInstanceOf(DocumentNumberValidatorImplement.DigitsMatcher.class,
+				DocumentNumberValidatorImplement.matcherFor("[0-9]{8,11}"));
+		assertInstanceOf(DocumentNumberValidatorImplement.DigitsMatcher.class,
+				DocumentNumberValidatorImplement.matcherFor("\\d+"));
+
+		DocumentNumberValidatorImplement.DocumentMatcher dni = DocumentNumberValidatorImplement.matcherFor("^\\d{8}$");
+		assertTrue(dni.matches("12345678"));
+		assertFalse(dni.matches("1234567"));
+		assertFalse(dni.matches("1234567A"));
+		assertFalse(dni.matches("١٢٣٤٥٦٧٨"));
+	}
+
+	@Test
+	void otherPatternsUseRegex() {
+		DocumentNumberValidatorImplement.DocumentMatcher passport = DocumentNumberValidatorImplement.matcherFor("^[A-Z]{2}\\d{6}$");
+
+		assertTrue(passport.matches("AB123456"));
+		assertFalse(passport.matches("ab123456"));
+	}
+
+	@Test
+	void preloadedRulesRejectWithoutQuerying() {
+		when(repository.findByActiveTrue()).thenReturn(List.of(typeDocument(1, "^\\d{8}$", 8, 8)));
+		validator.preload();
+
+		InvalidFieldFormatException ex = assertThrows(InvalidFieldFormatException.class,
+				() -> validator.validate(1, "12AB5678"));
+
+		assertEquals("documentNumber", ex.getFieldName());
+		verify(repository, never()).findById(1);
+	}
+
+	@Test
+	void evictReloadsTheCurrentDefinition() {
+		when(repository.findById(1)).thenReturn(Optional.of(typeDocument(1, "^\\d{8}$", 8, 8)));
+		assertThrows(InvalidFieldFormatException.class, () -> validator.validate(1, "ABC123456"));
+
+		when(repository.findById(1)).thenReturn(Optional.of(typeDocument(1, "^[A-Z0-9]{9}$", 9, 9)));
+		validator.evict(1);
+
+		assertDoesNotThrow(() -> validator.validate(1, "ABC123456"));
+		verify(repository, times(2)).findById(1);
+	}
+
+	@Test
+	void unknownTypeDocumentImposesNoRule() {
+		when(repository.findById(99)).thenReturn(Optional.empty());
+
+		assertDoesNotThrow(() -> validator.validate(99, "anything"));
+	}
+
+	private static TypeDocument typeDocument(int id, String pattern, int minLength, int maxLength) {
+		return new TypeDocument(id, "DNI", "Documento Nacional de Identidad", pattern, minLength, maxLength, true);
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.quality.service.implement;
+
+import com.quality.service.IdempotencyClaim;
+import com.quality.service.IdempotentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryIdempotencyStoreImplementTest {
+
+	private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+	private static final IdempotentResponse CREATED =
+			new IdempotentResponse(201, null, "http://localhost/clients/1", new byte[0]);
+	private static final String HASH = "body-hash";
+
+	@Test
+	void repeatedKeyReplaysCompletedResponse() {
+		InMemoryIdempotencyStoreImplement store = store(START, 100);
+
+		assertEquals(IdempotencyClaim.State.CLAIMED, store.claim("tx", HASH).state());
+		assertEquals(IdempotencyClaim.State.IN_PROGRESS, store.claim("tx", HASH).state());
+
+		store.complete("tx", CREATED);
+		IdempotencyClaim replay = store.claim("tx", HASH);
+
+		assertEquals(IdempotencyClaim.State.COMPLETED, replay.state());
+		assertEquals("http://localhost/clients/1", replay.response().location());
+		assertArrayEquals(new byte[0], replay.response().body());
+	}
+
+	@Test
+	void releasedKeyCanBeClaimedAgain() {
+		InMemoryIdempotencyStoreImplement store = store(START, 100);
+		store.claim("tx", HASH);
+
+		store.release("tx");
+
+		assertEquals(IdempotencyClaim.State.CLAIMED, store.claim("tx", HASH).state());
+	}
+
+	@Test
+	void expiredKeyIsEvictedAndCanBeClaimedAgain() {
+		MutableClock clock = new MutableClock(START);
+		InMemoryIdempotencyStoreImplement store = new InMemoryIdempotencyStoreImplement(
+				clock, Duration.ofHours(24), Duration.ofMinutes(1), 100);
+		store.claim("tx", HASH);
+		store.complete("tx", CREATED);
+
+		clock.now = START.plus(Duration.ofHours(25));
+		store.purgeExpired();
+
+		assertEquals(0, store.size());
+		assertEquals(IdempotencyClaim.State.CLAIMED, store.claim("tx", HASH).state());
+	}
+
+	@Test
+	void abandonedClaimCanBeTakenOver() {
+		MutableClock clock = new MutableClock(START);
+		InMemoryIdempotencyStoreImplement store = new InMemoryIdempotencyStoreImplement(
+				clock, Duration.ofHours(24), Duration.ofMinutes(1), 100);
+		store.claim("tx", HASH);
+
+		clock.now = START.plus(Duration.ofMinutes(2));
+
+		assertEquals(IdempotencyClaim.State.CLAIMED, store.claim("tx", HASH).state());
+	}
+
+	@Test
+	void storeIsBoundedToMaxEntries() {
+		InMemoryIdempotencyStoreImplement store = store(START, 2);
+
+		store.claim("a", HASH);
+		store.claim("b", HASH);
+		store.claim("c", HASH);
+
+		assertEquals(2, store.size());
+		assertEquals(IdempotencyClaim.State.CLAIMED, store.claim("a", HASH).state());
+	}
+
+	@Test
+	void keyReusedWithDifferentBodyIsRejected() {
+		InMemoryIdempotencyStoreImplement store = store(START, 100);
+		store.claim("tx", HASH);
+
+		assertEquals(IdempotencyClaim.State.MISMATCH, store.claim("tx", "other-hash").state());
+
+		store.complete("tx", CREATED);
+
+		assertEquals(IdempotencyClaim.State.MISMATCH, store.claim("tx", "other-hash").state());
+		assertEquals(IdempotencyClaim.State.COMPLETED, store.claim("tx", HASH).state());
+	}
+
+	@Test
+	void releasedKeysDoNotAccumulate() {
+		InMemoryIdempotencyStoreImplement store = store(START, 100);
+
+		for (int i = 0; i < 10_000; i++) {
+			String key = "tx-" + i;
+			store.claim(key, HASH);
+			store.release(key);
+		}
+
+		assertEquals(0, store.size());
+		assertEquals(100, store.queuedSize());
+	}
+
+	@Test
+	void takenOverClaimsDoNotAccumulate() {
+		MutableClock clock = new MutableClock(START);
+		InMemoryIdempotencyStoreImplement store = new InMemoryIdempotencyStoreImplement(
+				clock, Duration.ofHours(24), Duration.ofMinutes(1), 10);
+
+		for (int i = 0; i < 100; i++) {
+			clock.now = START.plus(Duration.ofMinutes(2L * i));
+			store.claim("tx", HASH);
+		}
+
+		assertEquals(1, store.size());
+		assertEquals(10, store.queuedSize());
+	}
+
+	private static InMemoryIdempotencyStoreImplement store(Instant now, int maxEntries) {
+		return new InMemoryIdempotencyStoreImplement(
+				Clock.fixed(now, ZoneOffset.UTC), Duration.ofHours(24), Duration.ofMinutes(1), maxEntries);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+
+}
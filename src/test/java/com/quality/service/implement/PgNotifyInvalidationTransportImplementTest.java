@@ -0,0 +1,86 @@
+package com.quality.service.implement;
+
+import com.quality.service.EntityInvalidatedEvent;
+import com.quality.service.ICatalogVersionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against the configured local PostgreSQL: notifications are sent with pg_notify on the
+ * real channel and picked up by the listener connection of the transport.
+ */
+@SpringBootTest(properties = "cache.invalidation.transport=postgres")
+class PgNotifyInvalidationTransportImplementTest {
+
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	@Autowired
+	private PgNotifyInvalidationTransportImplement transport;
+
+	@Autowired
+	private ICatalogVersionService catalogVersionService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void notificationFromAnotherNodeEvictsLocalCaches() throws InterruptedException {
+		assertTrue(await(transport::isListening), "Listener did not connect");
+		long before = catalogVersionService.currentVersion(ICatalogVersionService.CURRENCIES);
+
+		notifyChannel("other-node|Currency|3");
+
+		assertTrue(await(() -> catalogVersionService.currentVersion(ICatalogVersionService.CURRENCIES) > before),
+				"Currency catalog version was not bumped");
+	}
+
+	@Test
+	void ownNotificationsAreIgnored() throws InterruptedException {
+		assertTrue(await(transport::isListening), "Listener did not connect");
+		long typeAccounts = catalogVersionService.currentVersion(ICatalogVersionService.TYPE_ACCOUNTS);
+		long currencies = catalogVersionService.currentVersion(ICatalogVersionService.CURRENCIES);
+
+		// Delivered in order: once the second one is handled, the first one has been skipped
+		notifyChannel(transport.origin() + "|TypeAccount|1");
+		notifyChannel("other-node|Currency|");
+
+		assertTrue(await(() -> catalogVersionService.currentVersion(ICatalogVersionService.CURRENCIES) > currencies));
+		assertEquals(typeAccounts, catalogVersionService.currentVersion(ICatalogVersionService.TYPE_ACCOUNTS));
+	}
+
+	@Test
+	void payloadRoundTrip() {
+		EntityInvalidatedEvent event = new EntityInvalidatedEvent("TypeDocument", "7");
+
+		assertEquals(event, PgNotifyInvalidationTransportImplement.decode("b",
+				PgNotifyInvalidationTransportImplement.encode("a", event)));
+		assertEquals(new EntityInvalidatedEvent("Currency", null), PgNotifyInvalidationTransportImplement.decode("b",
+				PgNotifyInvalidationTransportImplement.encode("a", new EntityInvalidatedEvent("Currency", null))));
+		assertNull(PgNotifyInvalidationTransportImplement.decode("a",
+				PgNotifyInvalidationTransportImplement.encode("a", event)));
+		assertNull(PgNotifyInvalidationTransportImplement.decode("b", "malformed"));
+	}
+
+	private void notifyChannel(String payload) {
+		jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", "cache_invalidation", payload);
+	}
+
+	private static boolean await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				return false;
+			}
+			Thread.sleep(20);
+		}
+		return true;
+	}
+}